@@ -0,0 +1,23 @@
+package edu.kit.kastel.informalin.ontology;
+
+/**
+ * Token to cancel a running inference query from another thread, see {@link InferenceOptions}. Once cancelled, a
+ * token stays cancelled, so create a new token for each query (or group of queries) that should be cancellable.
+ *
+ * @author Jan Keim
+ *
+ */
+public final class CancellationToken {
+    private volatile boolean cancelled = false;
+
+    /**
+     * Requests the cancellation of all queries that use this token. Running queries abort at their next check.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,170 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.listeners.StatementListener;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.lang.LabelToNode;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.apache.jena.riot.system.StreamRDFBase;
+
+/**
+ * Listener that appends every added and removed statement to a change log file. The log uses the rows of the RDF
+ * Patch format: <code>A &lt;s&gt; &lt;p&gt; &lt;o&gt; .</code> for added and <code>D &lt;s&gt; &lt;p&gt; &lt;o&gt; .</code>
+ * for removed statements, with the terms in N-Triples syntax. Together with a base snapshot, the log describes the
+ * current state of the ontology, see {@link #replay(Path, Graph)}.
+ *
+ * Rows are buffered; they are only guaranteed to be on disk after {@link #checkpoint()}. As listeners cannot throw
+ * checked exceptions, a failed write is reported by the next checkpoint.
+ *
+ * @author Jan Keim
+ *
+ */
+class ChangeLog extends StatementListener implements Closeable {
+    private static final char ADD = 'A';
+    private static final char DELETE = 'D';
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Writer writer;
+    private IOException failure;
+
+    /**
+     * Opens the change log in the given file. Existing rows are kept and new rows are appended.
+     *
+     * @param file the file of the log
+     * @throws IOException if the file cannot be opened
+     */
+    ChangeLog(Path file) throws IOException {
+        this.file = file;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void addedStatement(Statement statement) {
+        append(ADD, statement.asTriple());
+    }
+
+    @Override
+    public void removedStatement(Statement statement) {
+        append(DELETE, statement.asTriple());
+    }
+
+    private synchronized void append(char operation, Triple triple) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            writer.write(operation);
+            writer.write(' ');
+            writer.write(NodeFmtLib.strNT(triple.getSubject()));
+            writer.write(' ');
+            writer.write(NodeFmtLib.strNT(triple.getPredicate()));
+            writer.write(' ');
+            writer.write(NodeFmtLib.strNT(triple.getObject()));
+            writer.write(" .\n");
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Writes all buffered rows to disk. The cost only depends on the number of rows since the last checkpoint.
+     *
+     * @throws IOException if writing a row or syncing the file failed
+     */
+    synchronized void checkpoint() throws IOException {
+        if (failure != null) {
+            throw failure;
+        }
+        writer.flush();
+        channel.force(false);
+    }
+
+    /**
+     * Discards all rows of the log. Used after the current state was written to a new base snapshot.
+     *
+     * @throws IOException if the file cannot be truncated
+     */
+    synchronized void truncate() throws IOException {
+        writer.flush();
+        channel.truncate(0);
+        channel.force(false);
+        failure = null;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            checkpoint();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Applies the rows of the given change log to the given graph in their order. Consecutive rows with the same
+     * operation are parsed at once. Replaying a log onto a graph that already contains its changes does not modify the
+     * graph, so a log that was not truncated after a compaction can be replayed safely.
+     *
+     * @param file  the file of the log; if it does not exist, nothing is replayed
+     * @param graph the graph to apply the changes to
+     * @throws IOException if the file cannot be read
+     */
+    static void replay(Path file, Graph graph) throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            var batch = new StringBuilder();
+            var batchOperation = new char[] { ADD };
+            lines.filter(line -> !line.isBlank()).forEach(line -> {
+                var operation = line.charAt(0);
+                if (operation != batchOperation[0]) {
+                    apply(batchOperation[0], batch.toString(), graph);
+                    batch.setLength(0);
+                    batchOperation[0] = operation;
+                }
+                batch.append(line, 2, line.length()).append('\n');
+            });
+            apply(batchOperation[0], batch.toString(), graph);
+        }
+    }
+
+    private static void apply(char operation, String triples, Graph graph) {
+        if (triples.isEmpty()) {
+            return;
+        }
+        if (operation != ADD && operation != DELETE) {
+            throw new IllegalArgumentException("Unknown change log operation: " + operation);
+        }
+        RDFParser.create().fromString(triples).lang(Lang.NTRIPLES).labelToNode(LabelToNode.createUseLabelEncoded()).parse(new StreamRDFBase() {
+            @Override
+            public void triple(Triple triple) {
+                if (operation == ADD) {
+                    graph.add(triple);
+                } else {
+                    graph.delete(triple);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,204 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.Map;
+
+import org.apache.jena.graph.Factory;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.impl.GraphBase;
+import org.apache.jena.shared.PrefixMapping;
+import org.apache.jena.shared.impl.PrefixMappingImpl;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * Graph that wraps the base graph of an ontology and allows to take snapshots of it without copying its triples. While
+ * at least one snapshot is in use, the wrapped graph is frozen: changes are collected in a delta of added and deleted
+ * triples, and reads combine the wrapped graph with the delta. A snapshot only copies the delta, so taking it costs
+ * O(changes) instead of O(triples). Once all snapshots are released, the delta is merged into the wrapped graph with
+ * the next write.
+ *
+ * The graph is only installed by {@link SnapshotOntModel} while snapshots are in use, so reads and writes do not pay
+ * for the indirection the rest of the time. Like the ontology itself, the graph relies on the lock of the model:
+ * snapshots are taken and writes happen within a write scope. Snapshots can be read without holding a lock and are
+ * released by closing them.
+ *
+ * @author Jan Keim
+ *
+ */
+final class CopyOnWriteGraph extends GraphBase {
+    private final Graph base;
+    private volatile Delta delta;
+    private int snapshots;
+
+    CopyOnWriteGraph(Graph base) {
+        this.base = base;
+    }
+
+    /**
+     * Takes a snapshot of the current state. The caller has to hold the write lock of the model and has to close the
+     * snapshot once it is no longer used.
+     *
+     * @param prefixes the prefixes of the snapshot
+     * @return read-only snapshot of the current state
+     */
+    synchronized Graph snapshot(Map<String, String> prefixes) {
+        if (delta == null) {
+            delta = new Delta();
+        }
+        snapshots++;
+        return new Snapshot(this, delta.copy(), prefixes);
+    }
+
+    private synchronized void release() {
+        snapshots--;
+    }
+
+    /**
+     * @return the wrapped graph
+     */
+    Graph getWrappedGraph() {
+        return base;
+    }
+
+    /**
+     * Merges the collected changes into the wrapped graph if no snapshot is in use anymore. The caller has to hold the
+     * write lock of the model.
+     *
+     * @return <code>true</code> if the wrapped graph contains all changes
+     */
+    synchronized boolean merge() {
+        if (delta == null) {
+            return true;
+        }
+        if (snapshots > 0) {
+            return false;
+        }
+        delta.deletions.find().forEachRemaining(base::delete);
+        delta.additions.find().forEachRemaining(base::add);
+        delta = null;
+        return true;
+    }
+
+    @Override
+    public void performAdd(Triple triple) {
+        if (delta == null || merge()) {
+            base.add(triple);
+            return;
+        }
+        synchronized (this) {
+            if (delta.deletions.contains(triple)) {
+                delta.deletions.delete(triple);
+            } else if (!base.contains(triple)) {
+                delta.additions.add(triple);
+            }
+        }
+    }
+
+    @Override
+    public void performDelete(Triple triple) {
+        if (delta == null || merge()) {
+            base.delete(triple);
+            return;
+        }
+        synchronized (this) {
+            if (delta.additions.contains(triple)) {
+                delta.additions.delete(triple);
+            } else if (base.contains(triple)) {
+                delta.deletions.add(triple);
+            }
+        }
+    }
+
+    @Override
+    protected ExtendedIterator<Triple> graphBaseFind(Triple triplePattern) {
+        var currentDelta = delta;
+        return currentDelta == null ? base.find(triplePattern) : currentDelta.find(base, triplePattern);
+    }
+
+    @Override
+    protected boolean graphBaseContains(Triple triple) {
+        return delta == null ? base.contains(triple) : containsByFind(triple);
+    }
+
+    @Override
+    protected int graphBaseSize() {
+        var currentDelta = delta;
+        return currentDelta == null ? base.size() : currentDelta.size(base);
+    }
+
+    @Override
+    protected PrefixMapping createPrefixMapping() {
+        return base.getPrefixMapping();
+    }
+
+    @Override
+    public void close() {
+        base.close();
+        super.close();
+    }
+
+    /**
+     * Triples that were added to and deleted from the frozen graph. Deletions only contain triples of the frozen graph,
+     * additions only triples that are not in the frozen graph.
+     */
+    private static final class Delta {
+        private final Graph additions = Factory.createDefaultGraph();
+        private final Graph deletions = Factory.createDefaultGraph();
+
+        private Delta copy() {
+            var copy = new Delta();
+            additions.find().forEachRemaining(copy.additions::add);
+            deletions.find().forEachRemaining(copy.deletions::add);
+            return copy;
+        }
+
+        private ExtendedIterator<Triple> find(Graph frozen, Triple triplePattern) {
+            return frozen.find(triplePattern).filterDrop(deletions::contains).andThen(additions.find(triplePattern));
+        }
+
+        private int size(Graph frozen) {
+            return frozen.size() - deletions.size() + additions.size();
+        }
+    }
+
+    /**
+     * Read-only view on the frozen graph and a copy of the delta at the time the snapshot was taken. Closing the
+     * snapshot releases it.
+     */
+    private static final class Snapshot extends GraphBase {
+        private final CopyOnWriteGraph owner;
+        private final Graph frozen;
+        private final Delta delta;
+        private final Map<String, String> prefixes;
+
+        private Snapshot(CopyOnWriteGraph owner, Delta delta, Map<String, String> prefixes) {
+            this.owner = owner;
+            this.frozen = owner.base;
+            this.delta = delta;
+            this.prefixes = prefixes;
+        }
+
+        @Override
+        public void close() {
+            if (!isClosed()) {
+                owner.release();
+            }
+            super.close();
+        }
+
+        @Override
+        protected ExtendedIterator<Triple> graphBaseFind(Triple triplePattern) {
+            return delta.find(frozen, triplePattern);
+        }
+
+        @Override
+        protected int graphBaseSize() {
+            return delta.size(frozen);
+        }
+
+        @Override
+        protected PrefixMapping createPrefixMapping() {
+            return new PrefixMappingImpl().setNsPrefixes(prefixes);
+        }
+    }
+}
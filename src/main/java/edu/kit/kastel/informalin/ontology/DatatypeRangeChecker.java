@@ -0,0 +1,138 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.datatypes.RDFDatatype;
+import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.vocabulary.RDFS;
+
+/**
+ * Performs the datatype range checks of the RDFS reasoner for single triples: Values of properties that have a datatype
+ * as range must be literals of that datatype. Sub-properties inherit the datatype ranges of their super-properties, as
+ * their values are values of the super-properties as well.
+ *
+ * @author Jan Keim
+ *
+ */
+class DatatypeRangeChecker {
+    static final String REPORT_TYPE = "dtRange";
+
+    private final Map<Node, List<RDFDatatype>> datatypeRanges;
+
+    private DatatypeRangeChecker(Map<Node, List<RDFDatatype>> datatypeRanges) {
+        this.datatypeRanges = datatypeRanges;
+    }
+
+    /**
+     * Creates a checker for the datatype ranges that are declared in the given (schema) model.
+     *
+     * @param schema the model containing the range and sub-property declarations
+     * @return the checker
+     */
+    static DatatypeRangeChecker fromSchema(Model schema) {
+        var graph = schema.getGraph();
+        Map<Node, List<RDFDatatype>> declaredRanges = new HashMap<>();
+        var rangeTriples = graph.find(Node.ANY, RDFS.range.asNode(), Node.ANY);
+        while (rangeTriples.hasNext()) {
+            var triple = rangeTriples.next();
+            var range = triple.getObject();
+            if (!range.isURI()) {
+                continue;
+            }
+            var datatype = TypeMapper.getInstance().getTypeByName(range.getURI());
+            if (datatype != null) {
+                declaredRanges.computeIfAbsent(triple.getSubject(), key -> new ArrayList<>()).add(datatype);
+            }
+        }
+
+        Map<Node, List<RDFDatatype>> ranges = new HashMap<>();
+        var subPropertyOf = RDFS.subPropertyOf.asNode();
+        declaredRanges.forEach((property, datatypes) -> {
+            Set<Node> visited = new HashSet<>();
+            var agenda = new ArrayDeque<Node>();
+            agenda.add(property);
+            while (!agenda.isEmpty()) {
+                var current = agenda.poll();
+                if (!visited.add(current)) {
+                    continue;
+                }
+                var currentRanges = ranges.computeIfAbsent(current, key -> new ArrayList<>());
+                for (var datatype : datatypes) {
+                    if (!currentRanges.contains(datatype)) {
+                        currentRanges.add(datatype);
+                    }
+                }
+                graph.find(Node.ANY, subPropertyOf, current).forEachRemaining(triple -> agenda.add(triple.getSubject()));
+            }
+        });
+        return new DatatypeRangeChecker(ranges);
+    }
+
+    /**
+     * Returns the properties that have a datatype range.
+     *
+     * @return the properties with a datatype range
+     */
+    Set<Node> getRangedProperties() {
+        return datatypeRanges.keySet();
+    }
+
+    /**
+     * Checks all triples of the given model that have the given resource as subject.
+     *
+     * @param model    the model the resource is contained in
+     * @param resource the resource that should be checked
+     * @return the found reports; empty if there are no conflicts
+     */
+    List<ValidationReport> checkResource(Model model, Node resource) {
+        List<ValidationReport> reports = new ArrayList<>();
+        var triples = model.getGraph().find(resource, Node.ANY, Node.ANY);
+        while (triples.hasNext()) {
+            var report = check(model, triples.next());
+            if (report != null) {
+                reports.add(report);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * Checks the given triple.
+     *
+     * @param model  the model the triple is contained in
+     * @param triple the triple that should be checked
+     * @return a report if the value conflicts with the range of the property, otherwise <code>null</code>
+     */
+    ValidationReport check(Model model, Triple triple) {
+        var ranges = datatypeRanges.get(triple.getPredicate());
+        if (ranges == null) {
+            return null;
+        }
+        var value = triple.getObject();
+        if (value.isBlank()) {
+            return null;
+        }
+        var property = triple.getPredicate();
+        if (!value.isLiteral()) {
+            var description = "Property " + property + " has a typed range but was given a non literal value " + value;
+            return ValidationReport.fromTriple(model, true, REPORT_TYPE, description, triple);
+        }
+        var literal = value.getLiteral();
+        for (var datatype : ranges) {
+            if (!datatype.isValidLiteral(literal)) {
+                var description = "Property " + property + " has a typed range " + datatype + " that is not compatible with " + value;
+                return ValidationReport.fromTriple(model, true, REPORT_TYPE, description, triple);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,279 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.jena.graph.Factory;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.graph.compose.Union;
+import org.apache.jena.rdf.listeners.StatementListener;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.sparql.graph.GraphReadOnly;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+
+/**
+ * Incrementally maintains the materialized closure of a restricted set of entailments for a {@link Model}. Supported
+ * are the transitivity and the implications of rdfs:subClassOf and rdfs:subPropertyOf, the typing via rdfs:domain and
+ * rdfs:range, and owl:inverseOf.
+ *
+ * The materializer is meant to be registered as listener of the model it materializes. Added statements are propagated
+ * semi-naively, i.e., only newly derived triples are joined against the closure. Removed statements are handled via
+ * delete-and-rederive: Every triple that might depend on the removed one is deleted and afterwards re-inserted if it
+ * still has an alternative derivation. Changes that do not produce statement events (e.g., loading imports) require a
+ * call to {@link #materialize()}.
+ *
+ * Only the derived triples are stored. The closure is a union view of the graph of the model, i.e., the asserted and
+ * imported triples, and the derived triples, so the asserted triples are not held twice in memory.
+ *
+ * @author Jan Keim
+ *
+ */
+class IncrementalMaterializer extends StatementListener {
+    private static final Node TYPE = RDF.type.asNode();
+    private static final Node SUB_CLASS_OF = RDFS.subClassOf.asNode();
+    private static final Node SUB_PROPERTY_OF = RDFS.subPropertyOf.asNode();
+    private static final Node DOMAIN = RDFS.domain.asNode();
+    private static final Node RANGE = RDFS.range.asNode();
+    private static final Node INVERSE_OF = OWL.inverseOf.asNode();
+
+    private final Model model;
+    // triples that are entailed but not asserted in the model
+    private final Graph derivedTriples;
+    // read view on the asserted and the derived triples
+    private final Graph closure;
+    private final Model closureModel;
+
+    IncrementalMaterializer(Model model) {
+        this.model = model;
+        derivedTriples = Factory.createDefaultGraph();
+        closure = new Union(model.getGraph(), derivedTriples);
+        closureModel = ModelFactory.createModelForGraph(new GraphReadOnly(closure));
+    }
+
+    /**
+     * Returns a read-only {@link Model} view on the materialized closure. The closure contains the asserted as well as
+     * the derived triples.
+     *
+     * @return the materialized closure
+     */
+    Model getModel() {
+        return closureModel;
+    }
+
+    /**
+     * (Re-)Computes the closure from scratch based on all triples that are currently in the model.
+     */
+    synchronized void materialize() {
+        derivedTriples.clear();
+        propagate(new ArrayDeque<>(model.getGraph().find(Node.ANY, Node.ANY, Node.ANY).toList()));
+    }
+
+    @Override
+    public void addedStatement(Statement statement) {
+        addTriples(List.of(statement.asTriple()));
+    }
+
+    @Override
+    public void removedStatement(Statement statement) {
+        removeTriple(statement.asTriple());
+    }
+
+    /**
+     * Propagates the given triples that were asserted in the model. Triples that were already derived before only move
+     * from the derived triples to the asserted ones, as their consequences are part of the closure already.
+     */
+    synchronized void addTriples(Collection<Triple> triples) {
+        Deque<Triple> agenda = new ArrayDeque<>();
+        for (var triple : triples) {
+            if (derivedTriples.contains(triple)) {
+                derivedTriples.delete(triple);
+            } else {
+                agenda.add(triple);
+            }
+        }
+        propagate(agenda);
+    }
+
+    /**
+     * Handles the given triple that was removed from the model.
+     */
+    synchronized void removeTriple(Triple triple) {
+        if (isAsserted(triple)) {
+            // still asserted, e.g., by an import
+            return;
+        }
+
+        // delete everything that might have been derived using the removed triple
+        Set<Triple> overDeleted = new HashSet<>();
+        Deque<Triple> agenda = new ArrayDeque<>();
+        overDeleted.add(triple);
+        agenda.add(triple);
+        while (!agenda.isEmpty()) {
+            var current = agenda.poll();
+            for (var derived : derive(current)) {
+                if (derivedTriples.contains(derived) && overDeleted.add(derived)) {
+                    agenda.add(derived);
+                }
+            }
+        }
+        overDeleted.forEach(derivedTriples::delete);
+
+        // rederive the triples that still have an alternative derivation
+        Deque<Triple> rederived = new ArrayDeque<>();
+        for (var candidate : overDeleted) {
+            if (!closure.contains(candidate) && hasAlternativeDerivation(candidate)) {
+                derivedTriples.add(candidate);
+                rederived.add(candidate);
+            }
+        }
+        propagate(rederived);
+    }
+
+    private boolean isAsserted(Triple triple) {
+        return model.getGraph().contains(triple);
+    }
+
+    private void propagate(Deque<Triple> agenda) {
+        while (!agenda.isEmpty()) {
+            var current = agenda.poll();
+            for (var derived : derive(current)) {
+                if (!closure.contains(derived)) {
+                    derivedTriples.add(derived);
+                    agenda.add(derived);
+                }
+            }
+        }
+    }
+
+    /**
+     * Derives all triples that can be inferred in one step using the given triple together with the current closure.
+     * The results are collected first, so the closure is not modified while iterating over it.
+     */
+    private List<Triple> derive(Triple triple) {
+        List<Triple> derived = new ArrayList<>();
+        var subject = triple.getSubject();
+        var predicate = triple.getPredicate();
+        var object = triple.getObject();
+
+        if (SUB_CLASS_OF.equals(predicate)) {
+            closure.find(object, SUB_CLASS_OF, Node.ANY).forEachRemaining(t -> addIfValid(derived, subject, SUB_CLASS_OF, t.getObject()));
+            closure.find(Node.ANY, SUB_CLASS_OF, subject).forEachRemaining(t -> addIfValid(derived, t.getSubject(), SUB_CLASS_OF, object));
+            closure.find(Node.ANY, TYPE, subject).forEachRemaining(t -> addIfValid(derived, t.getSubject(), TYPE, object));
+        } else if (SUB_PROPERTY_OF.equals(predicate)) {
+            closure.find(object, SUB_PROPERTY_OF, Node.ANY).forEachRemaining(t -> addIfValid(derived, subject, SUB_PROPERTY_OF, t.getObject()));
+            closure.find(Node.ANY, SUB_PROPERTY_OF, subject).forEachRemaining(t -> addIfValid(derived, t.getSubject(), SUB_PROPERTY_OF, object));
+            closure.find(Node.ANY, subject, Node.ANY).forEachRemaining(t -> addIfValid(derived, t.getSubject(), object, t.getObject()));
+        } else if (DOMAIN.equals(predicate)) {
+            closure.find(Node.ANY, subject, Node.ANY).forEachRemaining(t -> addIfValid(derived, t.getSubject(), TYPE, object));
+        } else if (RANGE.equals(predicate)) {
+            closure.find(Node.ANY, subject, Node.ANY).forEachRemaining(t -> addIfValid(derived, t.getObject(), TYPE, object));
+        } else if (INVERSE_OF.equals(predicate)) {
+            addIfValid(derived, object, INVERSE_OF, subject);
+            closure.find(Node.ANY, subject, Node.ANY).forEachRemaining(t -> addIfValid(derived, t.getObject(), object, t.getSubject()));
+        }
+
+        // the triple itself is an instance of its predicate
+        if (TYPE.equals(predicate)) {
+            closure.find(object, SUB_CLASS_OF, Node.ANY).forEachRemaining(t -> addIfValid(derived, subject, TYPE, t.getObject()));
+        }
+        closure.find(predicate, SUB_PROPERTY_OF, Node.ANY).forEachRemaining(t -> addIfValid(derived, subject, t.getObject(), object));
+        closure.find(predicate, DOMAIN, Node.ANY).forEachRemaining(t -> addIfValid(derived, subject, TYPE, t.getObject()));
+        closure.find(predicate, RANGE, Node.ANY).forEachRemaining(t -> addIfValid(derived, object, TYPE, t.getObject()));
+        closure.find(predicate, INVERSE_OF, Node.ANY).forEachRemaining(t -> addIfValid(derived, object, t.getObject(), subject));
+
+        return derived;
+    }
+
+    private static void addIfValid(List<Triple> derived, Node subject, Node predicate, Node object) {
+        if (subject.isLiteral() || !predicate.isURI()) {
+            return;
+        }
+        derived.add(Triple.create(subject, predicate, object));
+    }
+
+    /**
+     * Checks whether the given triple can be derived in one step from the current closure without using the triple
+     * itself.
+     */
+    private boolean hasAlternativeDerivation(Triple triple) {
+        var subject = triple.getSubject();
+        var predicate = triple.getPredicate();
+        var object = triple.getObject();
+
+        if (SUB_CLASS_OF.equals(predicate) || SUB_PROPERTY_OF.equals(predicate)) {
+            if (existsChain(subject, predicate, object)) {
+                return true;
+            }
+        } else if (INVERSE_OF.equals(predicate) && closure.contains(object, INVERSE_OF, subject)) {
+            return true;
+        }
+
+        if (TYPE.equals(predicate) && hasAlternativeTypeDerivation(subject, object)) {
+            return true;
+        }
+
+        var superProperties = closure.find(Node.ANY, SUB_PROPERTY_OF, predicate).toList();
+        for (var superPropertyTriple : superProperties) {
+            var subProperty = superPropertyTriple.getSubject();
+            if (!subProperty.equals(predicate) && closure.contains(subject, subProperty, object)) {
+                return true;
+            }
+        }
+
+        if (!object.isLiteral()) {
+            var inverses = closure.find(Node.ANY, INVERSE_OF, predicate).toList();
+            for (var inverseTriple : inverses) {
+                if (closure.contains(object, inverseTriple.getSubject(), subject)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean existsChain(Node subject, Node transitiveProperty, Node object) {
+        var intermediates = closure.find(subject, transitiveProperty, Node.ANY).toList();
+        for (var intermediateTriple : intermediates) {
+            var intermediate = intermediateTriple.getObject();
+            if (closure.contains(intermediate, transitiveProperty, object)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasAlternativeTypeDerivation(Node subject, Node clazz) {
+        var types = closure.find(subject, TYPE, Node.ANY).toList();
+        for (var typeTriple : types) {
+            if (closure.contains(typeTriple.getObject(), SUB_CLASS_OF, clazz)) {
+                return true;
+            }
+        }
+
+        var domainProperties = closure.find(Node.ANY, DOMAIN, clazz).toList();
+        for (var domainTriple : domainProperties) {
+            if (closure.find(subject, domainTriple.getSubject(), Node.ANY).hasNext()) {
+                return true;
+            }
+        }
+
+        var rangeProperties = closure.find(Node.ANY, RANGE, clazz).toList();
+        for (var rangeTriple : rangeProperties) {
+            if (closure.find(Node.ANY, rangeTriple.getSubject(), subject).hasNext()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
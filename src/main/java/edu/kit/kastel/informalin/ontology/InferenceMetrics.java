@@ -0,0 +1,81 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics about the inference-backed queries of an {@link OntologyConnector}, see
+ * {@link OntologyInterface#getInferenceMetrics()}. Every query that uses the inference model records its wall-clock
+ * time here. The metrics are updated concurrently and can be read at any time.
+ *
+ * @author Jan Keim
+ *
+ */
+public final class InferenceMetrics {
+    private final LongAdder numberOfQueries = new LongAdder();
+    private final LongAdder numberOfAbortedQueries = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong lastNanos = new AtomicLong();
+
+    InferenceMetrics() {
+        // created by the connector
+    }
+
+    void record(Duration duration, boolean complete) {
+        var nanos = duration.toNanos();
+        numberOfQueries.increment();
+        if (!complete) {
+            numberOfAbortedQueries.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        lastNanos.set(nanos);
+    }
+
+    public long getNumberOfQueries() {
+        return numberOfQueries.sum();
+    }
+
+    /**
+     * Returns the number of queries that were aborted because of a timeout or cancellation.
+     *
+     * @return the number of aborted queries
+     */
+    public long getNumberOfAbortedQueries() {
+        return numberOfAbortedQueries.sum();
+    }
+
+    public Duration getTotalInferenceTime() {
+        return Duration.ofNanos(totalNanos.sum());
+    }
+
+    public Duration getMaxInferenceTime() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    public Duration getLastInferenceTime() {
+        return Duration.ofNanos(lastNanos.get());
+    }
+
+    /**
+     * Returns the average time of the recorded queries.
+     *
+     * @return the average inference time, or zero if no query was recorded
+     */
+    public Duration getAverageInferenceTime() {
+        var queries = getNumberOfQueries();
+        if (queries == 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(totalNanos.sum() / queries);
+    }
+
+    @Override
+    public String toString() {
+        return "InferenceMetrics [queries=" + getNumberOfQueries() + ", aborted=" + getNumberOfAbortedQueries() + ", total=" + getTotalInferenceTime()
+                + ", max=" + getMaxInferenceTime() + ", last=" + getLastInferenceTime() + "]";
+    }
+}
@@ -0,0 +1,77 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Options that bound an inference-backed query, e.g.,
+ * {@link OntologyInterface#getInferredIndividualsOfClass(String, InferenceOptions)}. Instances are immutable; the
+ * <code>with</code>-methods return modified copies.
+ *
+ * @author Jan Keim
+ *
+ */
+public final class InferenceOptions {
+    private static final InferenceOptions DEFAULTS = new InferenceOptions(null, null);
+
+    private final Duration timeout;
+    private final CancellationToken cancellationToken;
+
+    private InferenceOptions(Duration timeout, CancellationToken cancellationToken) {
+        this.timeout = timeout;
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Returns the default options: no time budget and no cancellation token.
+     *
+     * @return the default options
+     */
+    public static InferenceOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of these options that aborts the query once the given wall-clock time has passed.
+     *
+     * @param timeout the time budget of the query
+     * @return modified copy of these options
+     */
+    public InferenceOptions withTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout);
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout must not be negative");
+        }
+        return new InferenceOptions(timeout, cancellationToken);
+    }
+
+    /**
+     * Returns a copy of these options that aborts the query once the given token is cancelled.
+     *
+     * @param cancellationToken the token
+     * @return modified copy of these options
+     */
+    public InferenceOptions withCancellationToken(CancellationToken cancellationToken) {
+        Objects.requireNonNull(cancellationToken);
+        return new InferenceOptions(timeout, cancellationToken);
+    }
+
+    public Optional<Duration> getTimeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    public Optional<CancellationToken> getCancellationToken() {
+        return Optional.ofNullable(cancellationToken);
+    }
+
+    /**
+     * Checks whether a query that started at the given time (see {@link System#nanoTime()}) should be aborted.
+     */
+    boolean isAborted(long startTime) {
+        if (cancellationToken != null && cancellationToken.isCancelled()) {
+            return true;
+        }
+        return timeout != null && System.nanoTime() - startTime > timeout.toNanos();
+    }
+}
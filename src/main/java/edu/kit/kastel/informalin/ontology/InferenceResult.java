@@ -0,0 +1,66 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.time.Duration;
+
+import org.apache.jena.ontology.Individual;
+import org.eclipse.collections.api.list.ImmutableList;
+
+/**
+ * Result of an inference-backed query that was bounded by {@link InferenceOptions}. If the query was aborted because
+ * of its timeout or cancellation, the result contains the individuals that were found until then.
+ *
+ * @author Jan Keim
+ *
+ */
+public final class InferenceResult {
+    private final ImmutableList<Individual> individuals;
+    private final boolean complete;
+    private final long processedStatements;
+    private final Duration duration;
+
+    InferenceResult(ImmutableList<Individual> individuals, boolean complete, long processedStatements, Duration duration) {
+        this.individuals = individuals;
+        this.complete = complete;
+        this.processedStatements = processedStatements;
+        this.duration = duration;
+    }
+
+    /**
+     * Returns the individuals that were found. If the query was aborted, these are only the individuals found until
+     * then.
+     *
+     * @return the (possibly partial) individuals
+     */
+    public ImmutableList<Individual> getIndividuals() {
+        return individuals;
+    }
+
+    /**
+     * Returns whether the query ran to completion, i.e., was neither cancelled nor timed out.
+     *
+     * @return <code>true</code> if the result is complete
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Returns how much of the closure was computed, i.e., the number of (inferred) rdf:type statements that were
+     * pulled from the inference model.
+     *
+     * @return the number of processed statements
+     */
+    public long getProcessedStatements() {
+        return processedStatements;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "InferenceResult [individuals=" + individuals.size() + ", complete=" + complete + ", processedStatements=" + processedStatements
+                + ", duration=" + duration + "]";
+    }
+}
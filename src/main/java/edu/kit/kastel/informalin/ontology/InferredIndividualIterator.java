@@ -0,0 +1,127 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.ontology.Individual;
+import org.apache.jena.ontology.OntModel;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.shared.Lock;
+import org.apache.jena.util.iterator.ExtendedIterator;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+
+/**
+ * Lazily iterates over the (inferred) individuals of a class. The rdf:type statements are pulled from the inference
+ * model on demand, and {@link Individual} wrappers are only created in {@link #next()}. Counting and skipping work
+ * directly on the nodes of the graph without creating any wrappers. Each step reads the ontology within a read lock.
+ * The ontology should not be modified while iterating.
+ *
+ * @author Jan Keim
+ *
+ */
+class InferredIndividualIterator implements Iterator<Individual> {
+    private static final Node TYPE = RDF.type.asNode();
+    // same types that prevent a node from being viewed as Individual in the OWL DL profile
+    private static final List<Node> NON_INDIVIDUAL_TYPES = List.of(RDFS.Class.asNode(), RDF.Property.asNode(), OWL.Class.asNode(),
+            OWL.ObjectProperty.asNode(), OWL.DatatypeProperty.asNode(), OWL.TransitiveProperty.asNode(), OWL.FunctionalProperty.asNode(),
+            OWL.InverseFunctionalProperty.asNode());
+
+    private final OntModel ontModel;
+    private final ExtendedIterator<Triple> typeTriples;
+    private Node nextNode;
+    private boolean finished = false;
+
+    InferredIndividualIterator(OntModel ontModel, Model inferenceModel, Node clazz) {
+        this.ontModel = ontModel;
+        typeTriples = inferenceModel.getGraph().find(Node.ANY, TYPE, clazz);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextNode != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            nextNode = computeNext();
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+        return nextNode != null;
+    }
+
+    @Override
+    public Individual next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var node = nextNode;
+        nextNode = null;
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            return ontModel.wrapAsResource(node).as(Individual.class);
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Skips up to the given number of individuals without creating {@link Individual} wrappers for them.
+     *
+     * @param numberOfIndividuals the maximal number of individuals to skip
+     * @return the number of individuals that were actually skipped
+     */
+    long skip(long numberOfIndividuals) {
+        long skipped = 0;
+        while (skipped < numberOfIndividuals && hasNext()) {
+            nextNode = null;
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Stops the iteration and releases the underlying graph iterator.
+     */
+    void close() {
+        finished = true;
+        nextNode = null;
+        typeTriples.close();
+    }
+
+    private Node computeNext() {
+        while (typeTriples.hasNext()) {
+            var subject = typeTriples.next().getSubject();
+            if (isIndividual(ontModel.getGraph(), subject)) {
+                return subject;
+            }
+        }
+        close();
+        return null;
+    }
+
+    /**
+     * Checks on node level whether the given node can be viewed as {@link Individual}, i.e., whether it is a resource
+     * that is neither a class nor a property.
+     */
+    static boolean isIndividual(Graph graph, Node node) {
+        if (!node.isURI() && !node.isBlank()) {
+            return false;
+        }
+        for (var type : NON_INDIVIDUAL_TYPES) {
+            if (graph.contains(node, TYPE, type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,121 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.listeners.StatementListener;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
+
+/**
+ * Listener that counts the changes to statements of the ordered list ontology (olo), i.e., statements whose predicate
+ * or object is part of the olo namespace, and to statements with a predicate of the connector's olo extension. The
+ * changes are counted per list: a statement belongs to the list it points to via <code>olo:ordered_list</code>, to the
+ * list it describes (<code>olo:slot</code>, <code>olo:length</code>, <code>olox:tail</code>), or to the list of the
+ * slot it describes. Statements about slots that are not linked to a list
+ * cannot change a list and are not counted. {@link OrderedOntologyList}s compare the version of their list with the
+ * version of their cached state to detect changes that were made to the ontology from outside of the list instance.
+ *
+ * @author Jan Keim
+ *
+ */
+class ListChangeTracker extends StatementListener {
+    private static final Property ORDERED_LIST_PROPERTY = ResourceFactory
+            .createProperty(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_ORDERED_LIST);
+    private static final Set<String> LIST_PROPERTIES = Set.of(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_SLOT,
+            OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_LENGTH,
+            OrderedOntologyList.LIST_EXTENSION_URI + OrderedOntologyList.LIST_PROPERTY_TAIL);
+    private static final String LIST_CLASS = OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_CLASS;
+
+    private final ConcurrentMap<Node, AtomicLong> listVersions = new ConcurrentHashMap<>();
+    // list of each slot that was seen so far, so statements about a slot do not need to look up its list in the model
+    private final ConcurrentMap<Node, Node> slotLists = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the number of changes to the given list so far.
+     *
+     * @param list the list individual
+     * @return the version of the list
+     */
+    long getVersion(Resource list) {
+        var listVersion = listVersions.get(list.asNode());
+        return listVersion == null ? 0 : listVersion.get();
+    }
+
+    @Override
+    public void addedStatement(Statement statement) {
+        record(statement, true);
+    }
+
+    @Override
+    public void removedStatement(Statement statement) {
+        record(statement, false);
+    }
+
+    private void record(Statement statement, boolean added) {
+        if (isListStatement(statement)) {
+            var list = findList(statement, added);
+            if (list != null) {
+                listVersions.computeIfAbsent(list, node -> new AtomicLong()).incrementAndGet();
+            }
+        }
+    }
+
+    private static boolean isListStatement(Statement statement) {
+        var predicateNamespace = statement.getPredicate().getNameSpace();
+        if (OrderedOntologyList.LIST_BASE_URI.equals(predicateNamespace) || OrderedOntologyList.LIST_EXTENSION_URI.equals(predicateNamespace)) {
+            return true;
+        }
+        var object = statement.getObject();
+        return object.isURIResource() && OrderedOntologyList.LIST_BASE_URI.equals(object.asResource().getNameSpace());
+    }
+
+    /**
+     * Returns the list that the given statement belongs to or <code>null</code> if it does not belong to a list. The
+     * list is taken from the statement itself where possible. For statements about a slot, the list of the slot is
+     * remembered when its <code>olo:ordered_list</code> statement is seen; only slots that were not seen before (e.g.,
+     * slots of a loaded ontology) are looked up in the model once. When a slot is removed, its statements may be
+     * removed in any order; the list is counted at least once via the <code>olo:ordered_list</code> statement of the
+     * slot.
+     */
+    private Node findList(Statement statement, boolean added) {
+        var predicate = statement.getPredicate().getURI();
+        var object = statement.getObject();
+        var subject = statement.getSubject().asNode();
+        if (ORDERED_LIST_PROPERTY.getURI().equals(predicate)) {
+            if (!object.isResource()) {
+                return null;
+            }
+            var list = object.asNode();
+            if (added) {
+                slotLists.put(subject, list);
+            } else {
+                slotLists.remove(subject, list);
+            }
+            return list;
+        }
+        if (LIST_PROPERTIES.contains(predicate) || (object.isURIResource() && LIST_CLASS.equals(object.asResource().getURI()))) {
+            return subject;
+        }
+        var list = slotLists.get(subject);
+        if (list != null) {
+            return list;
+        }
+        var model = statement.getModel();
+        if (model == null) {
+            return null;
+        }
+        var orderedListStatement = model.getProperty(statement.getSubject(), ORDERED_LIST_PROPERTY);
+        if (orderedListStatement == null || !orderedListStatement.getObject().isResource()) {
+            return null;
+        }
+        list = orderedListStatement.getObject().asNode();
+        slotLists.putIfAbsent(subject, list);
+        return list;
+    }
+}
@@ -0,0 +1,121 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.jena.ontology.OntClass;
+import org.apache.jena.ontology.OntProperty;
+
+/**
+ * Typed handles to the classes and properties of the ordered list ontology (olo). The handles are resolved once by the
+ * {@link OrderedOntologyList.Factory} and shared by all lists of a connector, so list operations do not need to look
+ * up the vocabulary again.
+ *
+ * @author Jan Keim
+ *
+ */
+final class ListVocabulary {
+    private static final List<String> CLASS_NAMES = List.of(OrderedOntologyList.LIST_CLASS, OrderedOntologyList.LIST_SLOT_CLASS);
+    private static final List<String> PROPERTY_NAMES = List.of(OrderedOntologyList.LIST_PROPERTY_SLOT, OrderedOntologyList.LIST_PROPERTY_ITEM,
+            OrderedOntologyList.LIST_PROPERTY_NEXT, OrderedOntologyList.LIST_PROPERTY_PREVIOUS, OrderedOntologyList.LIST_PROPERTY_LENGTH,
+            OrderedOntologyList.LIST_PROPERTY_INDEX, OrderedOntologyList.LIST_PROPERTY_ORDERED_LIST);
+
+    private final OntClass listClass;
+    private final OntClass slotClass;
+    private final OntProperty slotProperty;
+    private final OntProperty itemProperty;
+    private final OntProperty nextProperty;
+    private final OntProperty previousProperty;
+    private final OntProperty lengthProperty;
+    private final OntProperty indexProperty;
+    private final OntProperty orderedListProperty;
+
+    private ListVocabulary(OntologyInterface oc) {
+        listClass = resolveClass(oc, OrderedOntologyList.LIST_CLASS).orElseThrow();
+        slotClass = resolveClass(oc, OrderedOntologyList.LIST_SLOT_CLASS).orElseThrow();
+        slotProperty = resolveProperty(oc, OrderedOntologyList.LIST_PROPERTY_SLOT).orElseThrow();
+        itemProperty = resolveProperty(oc, OrderedOntologyList.LIST_PROPERTY_ITEM).orElseThrow();
+        nextProperty = resolveProperty(oc, OrderedOntologyList.LIST_PROPERTY_NEXT).orElseThrow();
+        previousProperty = resolveProperty(oc, OrderedOntologyList.LIST_PROPERTY_PREVIOUS).orElseThrow();
+        lengthProperty = resolveProperty(oc, OrderedOntologyList.LIST_PROPERTY_LENGTH).orElseThrow();
+        indexProperty = resolveProperty(oc, OrderedOntologyList.LIST_PROPERTY_INDEX).orElseThrow();
+        orderedListProperty = resolveProperty(oc, OrderedOntologyList.LIST_PROPERTY_ORDERED_LIST).orElseThrow();
+    }
+
+    /**
+     * Resolves the olo vocabulary in the ontology of the given connector. This only reads the ontology; if olo is not
+     * imported, the vocabulary cannot be resolved.
+     *
+     * @param oc the connector
+     * @return the resolved vocabulary or an empty Optional if a class or property of the vocabulary cannot be found
+     */
+    static Optional<ListVocabulary> resolve(OntologyInterface oc) {
+        for (var name : CLASS_NAMES) {
+            if (resolveClass(oc, name).isEmpty()) {
+                return Optional.empty();
+            }
+        }
+        for (var name : PROPERTY_NAMES) {
+            if (resolveProperty(oc, name).isEmpty()) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new ListVocabulary(oc));
+    }
+
+    /**
+     * Resolves the <code>tail</code> property of the connector's extension of the olo vocabulary (see
+     * {@link OrderedOntologyList#LIST_EXTENSION_URI}). It is not part of olo itself, so it is resolved separately and
+     * only if the extension is imported.
+     *
+     * @param oc the connector
+     * @return the tail property or an empty Optional if the extension is not imported
+     */
+    static Optional<OntProperty> resolveTailProperty(OntologyInterface oc) {
+        return oc.getPropertyByIri(OrderedOntologyList.LIST_EXTENSION_URI + OrderedOntologyList.LIST_PROPERTY_TAIL);
+    }
+
+    private static Optional<OntClass> resolveClass(OntologyInterface oc, String name) {
+        return oc.getClassByIri(OrderedOntologyList.LIST_BASE_URI + name);
+    }
+
+    private static Optional<OntProperty> resolveProperty(OntologyInterface oc, String name) {
+        return oc.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + name);
+    }
+
+    OntClass getListClass() {
+        return listClass;
+    }
+
+    OntClass getSlotClass() {
+        return slotClass;
+    }
+
+    OntProperty getSlotProperty() {
+        return slotProperty;
+    }
+
+    OntProperty getItemProperty() {
+        return itemProperty;
+    }
+
+    OntProperty getNextProperty() {
+        return nextProperty;
+    }
+
+    OntProperty getPreviousProperty() {
+        return previousProperty;
+    }
+
+    OntProperty getLengthProperty() {
+        return lengthProperty;
+    }
+
+    OntProperty getIndexProperty() {
+        return indexProperty;
+    }
+
+    OntProperty getOrderedListProperty() {
+        return orderedListProperty;
+    }
+}
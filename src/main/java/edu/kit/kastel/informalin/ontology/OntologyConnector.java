@@ -1,38 +1,77 @@
 package edu.kit.kastel.informalin.ontology;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
-import java.io.OutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.jena.graph.Factory;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Node.NotLiteral;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.ontology.AnnotationProperty;
 import org.apache.jena.ontology.DatatypeProperty;
 import org.apache.jena.ontology.Individual;
 import org.apache.jena.ontology.ObjectProperty;
 import org.apache.jena.ontology.OntClass;
+import org.apache.jena.ontology.OntDocumentManager;
 import org.apache.jena.ontology.OntModel;
 import org.apache.jena.ontology.OntModelSpec;
 import org.apache.jena.ontology.OntProperty;
 import org.apache.jena.ontology.OntResource;
 import org.apache.jena.ontology.Ontology;
+import org.apache.jena.query.Dataset;
 import org.apache.jena.rdf.model.InfModel;
 import org.apache.jena.rdf.model.Literal;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelChangedListener;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.reasoner.ReasonerRegistry;
 import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.RDFLanguages;
 import org.apache.jena.shared.Lock;
+import org.apache.jena.tdb2.TDB2Factory;
+import org.apache.jena.tdb2.sys.TDBInternal;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import org.apache.jena.vocabulary.OWL;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
@@ -40,9 +79,12 @@ import org.apache.jena.vocabulary.XSD;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.collections.api.factory.Lists;
+import org.eclipse.collections.api.factory.Maps;
 import org.eclipse.collections.api.factory.Sets;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
 
 /**
  * Adapter that connects your code to an ontology. Provides various methods to decorate the usage of Apache Jena.
@@ -59,30 +101,85 @@ import org.eclipse.collections.api.list.MutableList;
  * @author Jan Keim
  *
  */
-public class OntologyConnector implements OntologyInterface {
+public class OntologyConnector implements OntologyInterface, AutoCloseable {
     private static Logger logger = LogManager.getLogger(OntologyConnector.class);
 
     // Needs to be DL! Otherwise, classes are seen as individual as well, which might have negative affects
-    protected static OntModelSpec modelSpec = OntModelSpec.OWL_DL_MEM;
+    protected static OntModelSpec modelSpec = createModelSpec();
 
     protected static final String DEFAULT_PREFIX = "";
 
+    private static final int SAVE_BUFFER_SIZE = 1 << 16;
+    // single daemon thread, so asynchronous saves run in the order they were requested and do not prevent JVM exit
+    private static final ExecutorService SAVE_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "ontology-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // saves of disk-backed ontologies each hold a read transaction of the store; they wait for the previous save
+    private static final ExecutorService STORAGE_SAVE_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        var thread = new Thread(runnable, "ontology-storage-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     protected final OntModel ontModel;
     protected OrderedOntologyList.Factory listFactory;
 
     protected String pathToOntology;
     protected Ontology ontology;
 
+    private volatile IncrementalMaterializer materializer;
+    private final InferenceMetrics inferenceMetrics = new InferenceMetrics();
+    // disk-backed store of the base model; null if the ontology is kept in memory
+    private final Dataset storage;
+    // change log and its base snapshot; null if no change log is enabled
+    private volatile ChangeLog changeLog;
+    private volatile Path changeLogSnapshot;
+    // last requested asynchronous save; saves complete in the order they were requested
+    private volatile CompletableFuture<SaveResult> lastSave = CompletableFuture.completedFuture(null);
+    private boolean closed;
+
     public OntologyConnector(String ontologyUrl) {
         pathToOntology = ontologyUrl;
+        storage = null;
         ontModel = loadOntology(pathToOntology);
         ontology = getBaseOntology().orElseThrow(() -> new IllegalArgumentException("Could not load ontology: No base ontology found"));
         listFactory = OrderedOntologyList.Factory.get(this);
     }
 
+    /**
+     * Creates an OntologyConnector that keeps the triples of the ontology in a disk-backed TDB2 store in the given
+     * directory instead of the heap. Only imported ontologies are held in memory. If the store is empty, the ontology
+     * is loaded from the given url into the store; otherwise, the existing store is opened and the url is only used to
+     * identify the connector.
+     *
+     * Every scope of the connector runs in a transaction of the store: each write scope is committed as one atomic and
+     * durable transaction when it is left, and read scopes see the state of the last committed write scope. So, to
+     * persist a batch of changes atomically, make them within one {@link #runInWriteScope(Runnable)}. The ontology
+     * must only be accessed through the connector and its scopes. {@link #close()} the connector to release the store.
+     *
+     * @param ontologyUrl      url or path of the ontology
+     * @param storageDirectory directory of the TDB2 store
+     */
+    public OntologyConnector(String ontologyUrl, String storageDirectory) {
+        pathToOntology = ontologyUrl;
+        storage = TDB2Factory.connectDataset(storageDirectory);
+        storage.executeWrite(() -> {
+            if (storage.getDefaultModel().isEmpty()) {
+                readOntology(storage.getDefaultModel(), ontologyUrl);
+            }
+        });
+        ontModel = storage.calculateRead(() -> new TransactionalOntModel(modelSpec, storage.getDefaultModel(), storage));
+        ontModel.setDynamicImports(true);
+        ontology = getBaseOntology().orElseThrow(() -> new IllegalArgumentException("Could not load ontology: No base ontology found"));
+        listFactory = OrderedOntologyList.Factory.get(this);
+    }
+
     private OntologyConnector() {
         pathToOntology = null;
-        ontModel = ModelFactory.createOntologyModel(modelSpec);
+        storage = null;
+        ontModel = createOntModel(Factory.createDefaultGraph());
         listFactory = OrderedOntologyList.Factory.get(this);
     }
 
@@ -100,6 +197,36 @@ public class OntologyConnector implements OntologyInterface {
         return ontologyConnector;
     }
 
+    /**
+     * Loads an ontology that was persisted with a change log (see {@link #enableChangeLog(String, String)}). First,
+     * the base snapshot is loaded, then the changes of the change log are replayed. Afterwards, further changes are
+     * appended to the same change log.
+     *
+     * @param snapshotFile  path of the base snapshot (RDF Thrift)
+     * @param changeLogFile path of the change log
+     * @return the loaded ontology
+     */
+    public static OntologyInterface loadWithChangeLog(String snapshotFile, String changeLogFile) {
+        checkSnapshotFile(snapshotFile);
+        var ontologyConnector = new OntologyConnector(snapshotFile);
+        var changeLogPath = Path.of(changeLogFile);
+        try {
+            ChangeLog.replay(changeLogPath, ontologyConnector.ontModel.getBaseModel().getGraph());
+            ontologyConnector.changeLog = new ChangeLog(changeLogPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load change log " + changeLogFile, e);
+        }
+        ontologyConnector.changeLogSnapshot = Path.of(snapshotFile);
+        ontologyConnector.ontModel.register(ontologyConnector.changeLog);
+        return ontologyConnector;
+    }
+
+    private static void checkSnapshotFile(String snapshotFile) {
+        if (!Lang.RDFTHRIFT.equals(RDFLanguages.filenameToLang(snapshotFile))) {
+            throw new IllegalArgumentException("Snapshot needs an RDF Thrift file extension (.rt or .trdf): " + snapshotFile);
+        }
+    }
+
     /**
      * Validates the ontology. A logger will put out warnings iff there are conflicts.
      *
@@ -108,26 +235,216 @@ public class OntologyConnector implements OntologyInterface {
      */
     @Override
     public boolean validateOntology() {
-        var validationInfModel = ModelFactory.createRDFSModel(ontModel);
-        var validity = validationInfModel.validate();
-        if (validity.isValid()) {
-            return true;
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            var validationInfModel = ModelFactory.createRDFSModel(ontModel);
+            var validity = validationInfModel.validate();
+            if (validity.isValid()) {
+                return true;
+            }
+            var reports = validity.getReports();
+            while (reports.hasNext()) {
+                logger.warn("Conflict in ontology: {}", reports.next());
+            }
+            return false;
+        } finally {
+            ontModel.leaveCriticalSection();
         }
-        var reports = validity.getReports();
-        while (reports.hasNext()) {
-            logger.warn("Conflict in ontology: {}", reports.next());
+    }
+
+    /**
+     * Validates the ontology lazily. The returned iterator computes the {@link ValidationReport}s only when they are
+     * requested and stops once one of the bounds of the given {@link ValidationOptions} is reached. The ontology should
+     * not be modified while iterating. Use {@link ValidationReportIterator#isTruncated()} to find out whether reports
+     * were left out because of a bound.
+     *
+     * @param options options that bound the validation
+     * @return iterator over the reports
+     */
+    @Override
+    public ValidationReportIterator getValidationReports(ValidationOptions options) {
+        Objects.requireNonNull(options);
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            var checker = DatatypeRangeChecker.fromSchema(ontModel);
+            return new ValidationReportIterator(ontModel, checker, options);
+        } finally {
+            ontModel.leaveCriticalSection();
         }
-        return false;
     }
 
     /**
-     * Adds/Sets a namespace prefix
+     * Same as {@link #getValidationReports(ValidationOptions)}, but returns the reports as lazy {@link Stream}.
+     *
+     * @param options options that bound the validation
+     * @return stream of the reports
+     */
+    @Override
+    public Stream<ValidationReport> streamValidationReports(ValidationOptions options) {
+        var reports = getValidationReports(options);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reports, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Creates a {@link ValidationSession} for this ontology. The session keeps the inference model alive and only
+     * re-checks the resources that changed since its last run. Close the session when it is not needed anymore.
+     *
+     * @return a new validation session
+     */
+    @Override
+    public ValidationSession createValidationSession() {
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            return new ValidationSession(ontModel);
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Enables the incremental materialization of the common entailments (sub-classes, sub-properties, domain and range
+     * typing, and inverse properties). Afterwards, the methods that return inferred individuals read from the
+     * materialized closure instead of creating a new reasoner for each call. The closure is kept up to date with every
+     * change to the ontology.
+     */
+    @Override
+    public void enableIncrementalMaterialization() {
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            if (materializer != null) {
+                return;
+            }
+            var newMaterializer = new IncrementalMaterializer(ontModel);
+            newMaterializer.materialize();
+            ontModel.register(newMaterializer);
+            materializer = newMaterializer;
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Disables the incremental materialization. Inferred individuals are then again retrieved using a full reasoner.
+     */
+    @Override
+    public void disableIncrementalMaterialization() {
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            if (materializer == null) {
+                return;
+            }
+            ontModel.unregister(materializer);
+            materializer = null;
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Runs the given operation within one write scope, i.e., while holding the write lock of the ontology. Calls to this
+     * connector within the operation reuse the scope, so other threads observe either none or all of the changes of
+     * the operation. For disk-backed ontologies (see {@link #OntologyConnector(String, String)}), the changes of the
+     * operation are committed to the store as one transaction.
+     *
+     * @param operation the operation
+     */
+    @Override
+    public void runInWriteScope(Runnable operation) {
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            operation.run();
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Same as {@link #runInWriteScope(Runnable)}, but returns the result of the operation.
+     *
+     * @param <T>       type of the result
+     * @param operation the operation
+     * @return the result of the operation
+     */
+    @Override
+    public <T> T callInWriteScope(Supplier<T> operation) {
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            return operation.get();
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Runs the given operation within one read scope, i.e., while holding the read lock of the ontology, and returns its
+     * result. The operation must not modify the ontology.
+     *
+     * @param <T>       type of the result
+     * @param operation the operation
+     * @return the result of the operation
+     */
+    @Override
+    public <T> T callInReadScope(Supplier<T> operation) {
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            return operation.get();
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Registers a listener that is notified about every statement that is added to or removed from the ontology.
+     *
+     * @param listener the listener
+     */
+    @Override
+    public void addModelChangedListener(ModelChangedListener listener) {
+        ontModel.register(listener);
+    }
+
+    /**
+     * Unregisters a listener that was registered with {@link #addModelChangedListener(ModelChangedListener)}.
+     *
+     * @param listener the listener
+     */
+    @Override
+    public void removeModelChangedListener(ModelChangedListener listener) {
+        ontModel.unregister(listener);
+    }
+
+    /**
+     * Adds the given statements to the ontology at once, within one write scope.
+     *
+     * @param statements the statements
+     */
+    @Override
+    public void addStatements(List<Statement> statements) {
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            ontModel.add(statements);
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Adds/Sets a namespace prefix. If the prefix is already mapped to the given URI, only the read lock is taken.
      *
      * @param prefix the new prefix that should be able to use
      * @param uri    the URI that the prefix should be resolved to
      */
     @Override
     public void setNsPrefix(String prefix, String uri) {
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            if (Objects.equals(uri, ontModel.getNsPrefixURI(prefix))) {
+                return;
+            }
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+
         ontModel.enterCriticalSection(Lock.WRITE);
         try {
             ontModel.setNsPrefix(prefix, uri);
@@ -148,36 +465,366 @@ public class OntologyConnector implements OntologyInterface {
     }
 
     /**
-     * Save the ontology to a given file (path). This method uses the N3 language to save.
+     * Save the ontology to a given file (path). This method uses the N3 language to save. If lists use
+     * {@link OrderedOntologyList.IndexingMode#SPARSE} indices, the lists are compacted to dense indices before.
      *
      * @param file     String containing the path of the file the ontology should be saved to
      * @param language The language the file should be written in
      * @return true if saving was successful, otherwise false is returned
      */
     @Override
-    public boolean save(String file, Lang language) {
-        if (file == null || file.isEmpty()) {
+    public boolean save(String file, Lang language) {
+        if (file == null || file.isEmpty()) {
+            return false;
+        }
+
+        if (listFactory.getIndexingMode() == OrderedOntologyList.IndexingMode.SPARSE) {
+            listFactory.compactLists();
+        }
+
+        try (var out = new BufferedOutputStream(new FileOutputStream(file))) {
+            ontModel.enterCriticalSection(Lock.READ);
+            try {
+                ontModel.write(out, language.getName());
+            } finally {
+                ontModel.leaveCriticalSection();
+            }
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<SaveResult> saveAsync(String file) {
+        return saveAsync(file, Lang.RDFXML);
+    }
+
+    /**
+     * Saves the ontology to a given file (path) in the background. Like {@link #save(String, Lang)}, sparse lists are
+     * compacted before. Then, a snapshot of the base model is taken while briefly holding the write lock, so this must
+     * not be called within a read scope. The snapshot does not copy the triples: until the save is finished, the base
+     * model is frozen and changes are collected separately, so taking the snapshot only costs O(changes) since the
+     * previous snapshot. Disk-backed stores (see
+     * {@link #OntologyConnector(String, String)}) are saved from a read transaction of the store instead. The snapshot
+     * is written on a background thread, so writers do not wait for the serialization. Saves are executed one after
+     * another in the order they were requested.
+     *
+     * @param file     String containing the path of the file the ontology should be saved to
+     * @param language The language the file should be written in
+     * @return future that completes with the {@link SaveResult} once the file is written or exceptionally if writing
+     *         failed
+     */
+    @Override
+    public CompletableFuture<SaveResult> saveAsync(String file, Lang language) {
+        if (file == null || file.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("No file given"));
+        }
+
+        var start = Instant.now();
+        if (listFactory.getIndexingMode() == OrderedOntologyList.IndexingMode.SPARSE) {
+            listFactory.compactLists();
+        }
+
+        var path = Path.of(file);
+        if (storage != null) {
+            return saveStorageAsync(path, language, start);
+        }
+
+        Graph snapshot;
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            snapshot = ((SnapshotOntModel) ontModel).snapshotBaseGraph(ontModel.getNsPrefixMap());
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+
+        var save = CompletableFuture.supplyAsync(() -> {
+            try {
+                return writeSnapshot(ModelFactory.createModelForGraph(snapshot), path, language, start);
+            } finally {
+                snapshot.close();
+            }
+        }, SAVE_EXECUTOR);
+        lastSave = save;
+        return save;
+    }
+
+    /**
+     * Saves a disk-backed ontology in the background using the multi-version concurrency of the store: the save runs
+     * in a read transaction that begins while the caller holds the read lock, so it sees the state at the time of the
+     * call, while later write scopes commit new versions without waiting for the save. Nothing is copied.
+     */
+    private CompletableFuture<SaveResult> saveStorageAsync(Path path, Lang language, Instant start) {
+        var previousSave = lastSave;
+        var began = new CompletableFuture<Void>();
+        CompletableFuture<SaveResult> save;
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            var prefixes = ontModel.getNsPrefixMap();
+            save = CompletableFuture.supplyAsync(() -> storage.calculateRead(() -> {
+                began.complete(null);
+                previousSave.handle((result, exception) -> null).join();
+                var snapshot = ModelFactory.createModelForGraph(storage.getDefaultModel().getGraph());
+                snapshot.setNsPrefixes(prefixes);
+                return writeSnapshot(snapshot, path, language, start);
+            }), STORAGE_SAVE_EXECUTOR);
+            save.whenComplete((result, exception) -> began.complete(null));
+            began.join();
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+        lastSave = save;
+        return save;
+    }
+
+    private static SaveResult writeSnapshot(Model snapshot, Path path, Lang language, Instant start) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var out = new BufferedOutputStream(Channels.newOutputStream(channel), SAVE_BUFFER_SIZE);
+            snapshot.write(out, language.getName());
+            out.flush();
+            return new SaveResult(path, channel.size(), Duration.between(start, Instant.now()));
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Saves the ontology as binary snapshot in the RDF Thrift format. Snapshots load much faster than RDF/XML. A
+     * connector that is created with a path to a snapshot (file extension <code>.rt</code> or <code>.trdf</code>)
+     * detects the format and loads the snapshot directly. Like {@link #save(String, Lang)}, only the base model is
+     * written; imports are loaded again when the snapshot is loaded.
+     *
+     * @param file String containing the path of the file the snapshot should be saved to
+     * @return true if saving was successful, otherwise false is returned
+     */
+    @Override
+    public boolean saveSnapshot(String file) {
+        if (file == null || file.isEmpty()) {
+            return false;
+        }
+
+        if (listFactory.getIndexingMode() == OrderedOntologyList.IndexingMode.SPARSE) {
+            listFactory.compactLists();
+        }
+
+        try (var out = new BufferedOutputStream(new FileOutputStream(file))) {
+            ontModel.enterCriticalSection(Lock.READ);
+            try {
+                RDFDataMgr.write(out, ontModel.getBaseModel(), RDFFormat.RDF_THRIFT);
+            } finally {
+                ontModel.leaveCriticalSection();
+            }
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Enables the change log mode. The current state of the ontology is written to the given base snapshot (RDF
+     * Thrift) and, from then on, every added and removed statement is appended to the given change log. Instead of
+     * rewriting the whole ontology with {@link #save(String)}, {@link #checkpoint()} then only needs to persist the
+     * changes since the last checkpoint. {@link #compactChangeLog()} merges the change log into the base snapshot.
+     * Use {@link #loadWithChangeLog(String, String)} to load the ontology again. If a change log was enabled before,
+     * it is disabled first.
+     *
+     * @param snapshotFile  path of the base snapshot; needs the file extension <code>.rt</code> or <code>.trdf</code>
+     * @param changeLogFile path of the change log
+     * @return true if the change log was enabled successfully, otherwise false is returned
+     */
+    @Override
+    public boolean enableChangeLog(String snapshotFile, String changeLogFile) {
+        checkSnapshotFile(snapshotFile);
+        disableChangeLog();
+
+        if (listFactory.getIndexingMode() == OrderedOntologyList.IndexingMode.SPARSE) {
+            listFactory.compactLists();
+        }
+
+        var snapshotPath = Path.of(snapshotFile);
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            // no writes can happen between writing the snapshot and starting the log, so no change gets lost
+            writeSnapshotAtomically(snapshotPath);
+            var log = new ChangeLog(Path.of(changeLogFile));
+            try {
+                log.truncate();
+            } catch (IOException e) {
+                log.close();
+                throw e;
+            }
+            changeLogSnapshot = snapshotPath;
+            changeLog = log;
+            ontModel.register(log);
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return false;
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+        return true;
+    }
+
+    /**
+     * Persists the changes that were appended to the change log since the last checkpoint. The cost of a checkpoint
+     * grows with the number of changes, not with the size of the ontology.
+     *
+     * @return true if the changes were persisted, false if no change log is enabled or writing failed
+     */
+    @Override
+    public boolean checkpoint() {
+        var log = changeLog;
+        if (log == null) {
+            return false;
+        }
+        try {
+            log.checkpoint();
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Merges the change log into the base snapshot, i.e., writes the current state as new base snapshot and empties
+     * the change log. The snapshot is replaced atomically, so a crash during compaction leaves a loadable state.
+     *
+     * @return true if the change log was compacted, false if no change log is enabled or writing failed
+     */
+    @Override
+    public boolean compactChangeLog() {
+        var log = changeLog;
+        if (log == null) {
             return false;
         }
 
-        OutputStream out = null;
+        if (listFactory.getIndexingMode() == OrderedOntologyList.IndexingMode.SPARSE) {
+            listFactory.compactLists();
+        }
+
+        ontModel.enterCriticalSection(Lock.READ);
         try {
-            out = new FileOutputStream(file);
-        } catch (FileNotFoundException e) {
+            writeSnapshotAtomically(changeLogSnapshot);
+            log.truncate();
+        } catch (IOException e) {
             logger.error(e.getMessage(), e);
             return false;
+        } finally {
+            ontModel.leaveCriticalSection();
         }
+        return true;
+    }
 
+    /**
+     * Disables the change log mode. Pending changes are persisted before the change log is closed.
+     *
+     * @return true if the change log was closed successfully or no change log was enabled, otherwise false
+     */
+    @Override
+    public boolean disableChangeLog() {
         ontModel.enterCriticalSection(Lock.READ);
         try {
-            ontModel.write(out, language.getName());
+            var log = changeLog;
+            if (log == null) {
+                return true;
+            }
+            changeLog = null;
+            changeLogSnapshot = null;
+            ontModel.unregister(log);
+            log.close();
+        } catch (IOException e) {
+            logger.error(e.getMessage(), e);
+            return false;
         } finally {
             ontModel.leaveCriticalSection();
         }
         return true;
     }
 
+    /**
+     * Closes the connector. Waits for running asynchronous saves and disables the change log (see
+     * {@link #disableChangeLog()}). If the ontology is kept in a disk-backed store (see
+     * {@link #OntologyConnector(String, String)}), the store is released, so it can be opened again. All write scopes
+     * were already committed when they were left. The connector must not be used after it was closed.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        lastSave.handle((result, exception) -> null).join();
+        disableChangeLog();
+        if (storage == null) {
+            return;
+        }
+        // take the plain lock of the model without beginning a transaction, so no scope and no transaction is active
+        var lock = ontModel.getLock();
+        lock.enterCriticalSection(Lock.WRITE);
+        try {
+            TDBInternal.expel(storage.asDatasetGraph());
+        } finally {
+            lock.leaveCriticalSection();
+        }
+    }
+
+    /**
+     * Writes the base model as RDF Thrift snapshot to a temporary file that then replaces the given file. The caller
+     * needs to hold the read lock.
+     */
+    private void writeSnapshotAtomically(Path file) throws IOException {
+        var temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var out = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+            RDFDataMgr.write(out, ontModel.getBaseModel(), RDFFormat.RDF_THRIFT);
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
     protected static OntModel loadOntology(String ontologyUrl) {
+        var ontModel = createOntModel(Factory.createDefaultGraph());
+        readOntology(ontModel, ontologyUrl);
+        ontModel.setDynamicImports(true);
+        return ontModel;
+    }
+
+    /**
+     * Creates a copy of {@link OntModelSpec#OWL_DL_MEM} with its own document manager that resolves the ordered list
+     * ontology and its extension from the bundled copies instead of fetching them. The document manager works on a copy
+     * of the global file manager, so the alternative locations do not leak into other users of Jena in the same JVM.
+     */
+    private static OntModelSpec createModelSpec() {
+        var fileManager = OntModelSpec.OWL_DL_MEM.getDocumentManager().getFileManager().clone();
+        var documentManager = new OntDocumentManager(fileManager, OntDocumentManager.DEFAULT_METADATA_PATH);
+        addBundledOntology(documentManager, OrderedOntologyList.LIST_BASE_URI, OrderedOntologyList.LIST_ONTOLOGY_LOCATION);
+        addBundledOntology(documentManager, OrderedOntologyList.LIST_EXTENSION_URI, OrderedOntologyList.LIST_EXTENSION_LOCATION);
+
+        var spec = new OntModelSpec(OntModelSpec.OWL_DL_MEM);
+        spec.setDocumentManager(documentManager);
+        return spec;
+    }
+
+    /**
+     * Maps the given ontology Iri (with and without the trailing '#') to the given location on the classpath.
+     */
+    private static void addBundledOntology(OntDocumentManager documentManager, String ontologyIri, String location) {
+        documentManager.addAltEntry(ontologyIri, location);
+        documentManager.addAltEntry(ontologyIri.substring(0, ontologyIri.length() - 1), location);
+    }
+
+    /**
+     * Creates the in-memory ontology model on top of the given graph. The model can take snapshots of the graph without
+     * copying it (see {@link SnapshotOntModel}), which {@link #saveAsync(String, Lang)} uses.
+     */
+    private static OntModel createOntModel(Graph baseGraph) {
+        return new SnapshotOntModel(modelSpec, ModelFactory.createModelForGraph(baseGraph));
+    }
+
+    private static void readOntology(Model model, String ontologyUrl) {
         if (!ontologyUrl.startsWith("file") && !ontologyUrl.startsWith("https")) {
             var file = new File(ontologyUrl);
             if (!file.exists()) {
@@ -195,10 +842,12 @@ public class OntologyConnector implements OntologyInterface {
             ontologyUrl = url.toString();
         }
 
-        var ontModel = ModelFactory.createOntologyModel(modelSpec);
-        ontModel.read(ontologyUrl);
-        ontModel.setDynamicImports(true);
-        return ontModel;
+        if (Lang.RDFTHRIFT.equals(RDFLanguages.filenameToLang(ontologyUrl))) {
+            // binary snapshot, see saveSnapshot
+            model.read(ontologyUrl, null, Lang.RDFTHRIFT.getName());
+        } else {
+            model.read(ontologyUrl);
+        }
     }
 
     /**
@@ -227,6 +876,10 @@ public class OntologyConnector implements OntologyInterface {
             var importResource = ontModel.createResource(importIRI);
             ontology.addImport(importResource);
             ontModel.loadImports();
+            if (materializer != null) {
+                // loading imports adds sub-graphs without notifying listeners
+                materializer.materialize();
+            }
         } finally {
             ontModel.leaveCriticalSection();
         }
@@ -262,15 +915,15 @@ public class OntologyConnector implements OntologyInterface {
         ontModel.enterCriticalSection(Lock.READ);
         try {
             importedOntologies = ontModel.listImportedOntologyURIs();
+            for (var onto : ontModel.listOntologies().toSet()) {
+                var ontologyUri = onto.getURI();
+                if (!importedOntologies.contains(ontologyUri)) {
+                    return Optional.of(onto);
+                }
+            }
         } finally {
             ontModel.leaveCriticalSection();
         }
-        for (var onto : ontModel.listOntologies().toSet()) {
-            var ontologyUri = onto.getURI();
-            if (!importedOntologies.contains(ontologyUri)) {
-                return Optional.of(onto);
-            }
-        }
         return Optional.empty();
     }
 
@@ -284,6 +937,20 @@ public class OntologyConnector implements OntologyInterface {
         return ModelFactory.createInfModel(reasoner, ontModel);
     }
 
+    /**
+     * Returns the {@link Model} that should be used to look up inferred statements. If incremental materialization is
+     * enabled, this is the materialized closure. Otherwise, a new {@link InfModel} is created.
+     *
+     * @return The model containing inferred statements
+     */
+    private Model getInferenceModel() {
+        var currentMaterializer = materializer;
+        if (currentMaterializer != null) {
+            return currentMaterializer.getModel();
+        }
+        return getInfModel();
+    }
+
     /**
      * Creates the uri out of a given prefix and suffix by concatenating them and expanding the prefix.
      *
@@ -753,23 +1420,22 @@ public class OntologyConnector implements OntologyInterface {
      * @return List of individuals with the given (super-) class.
      */
     public List<Individual> getIndividualsOfClassInherited(OntClass clazz) {
-        ontModel.enterCriticalSection(Lock.READ);
-        StmtIterator individualStmtIterator = null;
-        try {
-            var infModel = getInfModel();
-            individualStmtIterator = infModel.listStatements(null, RDF.type, clazz);
-        } finally {
-            ontModel.leaveCriticalSection();
-        }
+        return getIndividualsOfClassInherited(clazz, InferenceOptions.defaults()).getIndividuals().castToList();
+    }
 
-        List<Individual> individuals = Lists.mutable.empty();
-        while (individualStmtIterator != null && individualStmtIterator.hasNext()) {
-            var stmt = individualStmtIterator.next();
-            var subject = stmt.getSubject();
-            var individual = ontModel.getIndividual(subject.getURI());
-            individuals.add(individual);
-        }
-        return individuals;
+    /**
+     * Returns Individuals of the given class and all sub-classes of it (inherited). The query is aborted once the
+     * timeout of the given options has passed or their cancellation token is cancelled. In this case, the result
+     * contains the individuals found so far. The bounds are checked between the steps of the reasoner, see
+     * {@link #getInferredIndividualsOfClass(String, InferenceOptions)}.
+     *
+     * @param clazz   (Super-) class of the individuals that should be returned
+     * @param options options that bound the query
+     * @return the (possibly partial) individuals with the given (super-) class.
+     */
+    public InferenceResult getIndividualsOfClassInherited(OntClass clazz, InferenceOptions options) {
+        Objects.requireNonNull(options);
+        return collectInferredIndividuals(clazz, options);
     }
 
     /**
@@ -780,43 +1446,266 @@ public class OntologyConnector implements OntologyInterface {
      */
     @Override
     public ImmutableList<Individual> getInferredIndividualsOfClass(String className) {
+        return getInferredIndividualsOfClass(className, InferenceOptions.defaults()).getIndividuals();
+    }
+
+    /**
+     * Similar to {@link #getInferredIndividualsOfClass(String)}, but the query is aborted once the timeout of the given
+     * options has passed or their cancellation token is cancelled. In this case, the result contains the individuals
+     * found so far. The bounds are checked between the steps of the reasoner, i.e., before and after preparing the
+     * reasoner and between pulling statements from it. A single step cannot be interrupted, so the query may exceed
+     * its bounds by the duration of the current step.
+     *
+     * @param className name of the class to retrieve individuals from
+     * @param options   options that bound the query
+     * @return the (possibly partial) Individuals for the given class (name), including inferred ones
+     */
+    @Override
+    public InferenceResult getInferredIndividualsOfClass(String className, InferenceOptions options) {
+        Objects.requireNonNull(options);
         var optClass = getClass(className);
-        if (!optClass.isPresent()) {
-            return Lists.immutable.empty();
+        if (optClass.isEmpty()) {
+            return new InferenceResult(Lists.immutable.empty(), true, 0, Duration.ZERO);
+        }
+        return collectInferredIndividuals(optClass.get(), options);
+    }
+
+    /**
+     * Returns the (inferred) individuals of each of the given classes. In contrast to calling
+     * {@link #getInferredIndividualsOfClass(String)} for each class, this uses a single inference model and a single
+     * scan over the rdf:type statements. Membership is tracked in a {@link BitSet} per class over the distinct
+     * individuals, and each individual is only wrapped once, even if it belongs to several of the classes. The query
+     * is not bounded; use {@link #getInferredIndividualsOfClass(String, InferenceOptions)} to bound single queries.
+     *
+     * @param classes the classes to retrieve individuals from
+     * @return map from each given class to its Individuals, including inferred ones
+     */
+    @Override
+    public ImmutableMap<OntClass, ImmutableList<Individual>> getInferredIndividualsOfClasses(Collection<OntClass> classes) {
+        var startTime = System.nanoTime();
+        Map<Node, BitSet> membersByClass = new HashMap<>();
+        for (var clazz : classes) {
+            membersByClass.putIfAbsent(clazz.asNode(), new BitSet());
         }
-        var clazz = optClass.get();
 
-        StmtIterator stmts = null;
+        List<Node> individualNodes = new ArrayList<>();
+        Map<Node, Integer> individualIds = new HashMap<>();
+        MutableList<Individual> individuals = Lists.mutable.empty();
         ontModel.enterCriticalSection(Lock.READ);
         try {
-            stmts = getInfModel().listStatements(null, RDF.type, clazz);
+            if (!membersByClass.isEmpty()) {
+                var typeTriples = getInferenceModel().getGraph().find(Node.ANY, RDF.type.asNode(), Node.ANY);
+                try {
+                    while (typeTriples.hasNext()) {
+                        var typeTriple = typeTriples.next();
+                        var members = membersByClass.get(typeTriple.getObject());
+                        if (members == null) {
+                            continue;
+                        }
+                        var subject = typeTriple.getSubject();
+                        var id = individualIds.get(subject);
+                        if (id == null) {
+                            if (!InferredIndividualIterator.isIndividual(ontModel.getGraph(), subject)) {
+                                continue;
+                            }
+                            id = individualNodes.size();
+                            individualNodes.add(subject);
+                            individualIds.put(subject, id);
+                        }
+                        members.set(id);
+                    }
+                } finally {
+                    typeTriples.close();
+                }
+            }
+            for (var node : individualNodes) {
+                individuals.add(ontModel.wrapAsResource(node).as(Individual.class));
+            }
         } finally {
             ontModel.leaveCriticalSection();
         }
-        return createImmutableIndividualListFromStatementIterator(stmts);
-    }
 
-    private ImmutableList<Individual> createImmutableIndividualListFromStatementIterator(StmtIterator stmts) {
-        if (stmts == null) {
-            return Lists.immutable.empty();
+        MutableMap<OntClass, ImmutableList<Individual>> result = Maps.mutable.empty();
+        for (var clazz : classes) {
+            var members = membersByClass.get(clazz.asNode());
+            MutableList<Individual> individualsOfClass = Lists.mutable.withInitialCapacity(members.cardinality());
+            members.stream().forEach(id -> individualsOfClass.add(individuals.get(id)));
+            result.put(clazz, individualsOfClass.toImmutable());
         }
+        inferenceMetrics.record(Duration.ofNanos(System.nanoTime() - startTime), true);
+        return result.toImmutable();
+    }
 
+    /**
+     * Collects the individuals of the given class from the inference model on the calling thread. The bounds of the
+     * options are checked between the steps of the reasoner: before and after the reasoner is prepared and between
+     * pulling statements from it. A single step cannot be interrupted, so a query may exceed its bounds by the duration
+     * of the current step; afterwards, the lock and the iterator are released in any case. As the query runs on the
+     * calling thread, it also works within a read or write scope of the caller. The time of the query is recorded in
+     * the {@link InferenceMetrics}.
+     */
+    private InferenceResult collectInferredIndividuals(OntClass clazz, InferenceOptions options) {
+        var startTime = System.nanoTime();
         MutableList<Individual> individuals = Lists.mutable.empty();
+        long processedStatements = 0;
+        var complete = false;
+
+        ExtendedIterator<Triple> typeTriples = null;
         ontModel.enterCriticalSection(Lock.READ);
         try {
-            while (stmts.hasNext()) {
-                var stmt = stmts.nextStatement();
-                var res = stmt.getSubject();
-                if (res.canAs(Individual.class)) {
-                    individuals.add(res.as(Individual.class));
+            if (!options.isAborted(startTime)) {
+                var inferenceModel = getInferenceModel();
+                if (inferenceModel instanceof InfModel infModel) {
+                    // preparing the reasoner is the most expensive step, so it is done as a step of its own
+                    infModel.prepare();
+                }
+                if (!options.isAborted(startTime)) {
+                    typeTriples = inferenceModel.getGraph().find(Node.ANY, RDF.type.asNode(), clazz.asNode());
+                }
+            }
+            while (typeTriples != null && !options.isAborted(startTime)) {
+                if (!typeTriples.hasNext()) {
+                    complete = true;
+                    break;
+                }
+                var subject = typeTriples.next().getSubject();
+                processedStatements++;
+                if (InferredIndividualIterator.isIndividual(ontModel.getGraph(), subject)) {
+                    individuals.add(ontModel.wrapAsResource(subject).as(Individual.class));
                 }
             }
         } finally {
+            if (typeTriples != null) {
+                typeTriples.close();
+            }
             ontModel.leaveCriticalSection();
         }
+
+        var duration = Duration.ofNanos(System.nanoTime() - startTime);
+        inferenceMetrics.record(duration, complete);
+        if (!complete) {
+            logger.debug("Aborted inference query for {} after {} with {} processed statements", clazz, duration, processedStatements);
+        }
+        return new InferenceResult(individuals.toImmutable(), complete, processedStatements, duration);
+    }
+
+    /**
+     * Returns the metrics about the inference-backed queries of this connector, e.g., their timing.
+     *
+     * @return the inference metrics
+     */
+    @Override
+    public InferenceMetrics getInferenceMetrics() {
+        return inferenceMetrics;
+    }
+
+    /**
+     * Returns one page of the (inferred) individuals of the class with the given name. Individuals before the page are
+     * skipped without creating {@link Individual} objects for them.
+     *
+     * @param className name of the class to retrieve individuals from
+     * @param offset    number of individuals to skip
+     * @param limit     maximal number of individuals to return
+     * @return List of at most <code>limit</code> Individuals for the given class (name), including inferred ones
+     */
+    @Override
+    public ImmutableList<Individual> getInferredIndividualsOfClass(String className, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit must not be negative");
+        }
+        var optIterator = createInferredIndividualIterator(className);
+        if (optIterator.isEmpty()) {
+            return Lists.immutable.empty();
+        }
+        var iterator = optIterator.get();
+        MutableList<Individual> individuals = Lists.mutable.empty();
+        iterator.skip(offset);
+        while (individuals.size() < limit && iterator.hasNext()) {
+            individuals.add(iterator.next());
+        }
+        iterator.close();
         return individuals.toImmutable();
     }
 
+    /**
+     * Returns a cursor over the (inferred) individuals of the class with the given name. The individuals are pulled
+     * from the inference model on demand. The ontology should not be modified while iterating.
+     *
+     * @param className name of the class to retrieve individuals from
+     * @return Iterator over the Individuals for the given class (name), including inferred ones
+     */
+    @Override
+    public Iterator<Individual> iterateInferredIndividualsOfClass(String className) {
+        var optIterator = createInferredIndividualIterator(className);
+        if (optIterator.isEmpty()) {
+            return Collections.emptyIterator();
+        }
+        return optIterator.get();
+    }
+
+    /**
+     * Same as {@link #iterateInferredIndividualsOfClass(String)}, but returns the individuals as lazy {@link Stream}.
+     * Closing the stream releases the underlying iterator early.
+     *
+     * @param className name of the class to retrieve individuals from
+     * @return Stream of the Individuals for the given class (name), including inferred ones
+     */
+    @Override
+    public Stream<Individual> streamInferredIndividualsOfClass(String className) {
+        var optIterator = createInferredIndividualIterator(className);
+        if (optIterator.isEmpty()) {
+            return Stream.empty();
+        }
+        var iterator = optIterator.get();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Counts the (inferred) individuals of the class with the given name without creating {@link Individual} objects.
+     *
+     * @param className name of the class
+     * @return the number of Individuals for the given class (name), including inferred ones
+     */
+    @Override
+    public long countInferredIndividualsOfClass(String className) {
+        return createInferredIndividualIterator(className).map(iterator -> iterator.skip(Long.MAX_VALUE)).orElse(0L);
+    }
+
+    /**
+     * Checks whether the class with the given name has at least one (inferred) individual. Stops at the first
+     * individual and does not create {@link Individual} objects.
+     *
+     * @param className name of the class
+     * @return <code>true</code> if there is an Individual for the given class (name), including inferred ones
+     */
+    @Override
+    public boolean hasInferredIndividualsOfClass(String className) {
+        var optIterator = createInferredIndividualIterator(className);
+        if (optIterator.isEmpty()) {
+            return false;
+        }
+        var iterator = optIterator.get();
+        var hasIndividual = iterator.hasNext();
+        iterator.close();
+        return hasIndividual;
+    }
+
+    private Optional<InferredIndividualIterator> createInferredIndividualIterator(String className) {
+        var optClass = getClass(className);
+        if (optClass.isEmpty()) {
+            return Optional.empty();
+        }
+        var clazz = optClass.get();
+
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            return Optional.of(new InferredIndividualIterator(ontModel, getInferenceModel(), clazz.asNode()));
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
     /**
      * Adds an individual with the given name to the default (prefix) namespace.
      *
@@ -899,6 +1788,23 @@ public class OntologyConnector implements OntologyInterface {
         }
     }
 
+    /**
+     * Removes the given individuals from the ontology. All individuals are removed while holding the write lock once.
+     *
+     * @param individuals the individuals
+     */
+    @Override
+    public void removeIndividuals(Collection<? extends Individual> individuals) {
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            for (var individual : individuals) {
+                individual.remove();
+            }
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
     /**
      * Adds an Individual to the given class. If the Individual does not exist, creates the individual as well.
      *
@@ -921,6 +1827,31 @@ public class OntologyConnector implements OntologyInterface {
         return individual;
     }
 
+    /**
+     * Adds an Individual with the given Iri to the given class. In contrast to
+     * {@link #addIndividualToClass(String, OntClass)}, the individual gets no label and is directly created with the
+     * given class. If the Individual already exists, it is added to the class as well.
+     *
+     * @param iri   Iri of the individual
+     * @param clazz Class the individual should be added to
+     * @return the individual with the given Iri
+     */
+    @Override
+    public Individual addIndividualByIri(String iri, OntClass clazz) {
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            var uri = ontModel.expandPrefix(iri);
+            var individual = ontModel.getIndividual(uri);
+            if (individual == null) {
+                return ontModel.createIndividual(uri, clazz);
+            }
+            individual.addOntClass(clazz);
+            return individual;
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
     /**
      * Sets the class of an Individual. If the Individual does not exist, creates the individual as well.
      *
@@ -955,9 +1886,11 @@ public class OntologyConnector implements OntologyInterface {
     @Override
     public OrderedOntologyList addEmptyList(String label) {
         listFactory.checkListImport();
-        var list = listFactory.createFromLabel(label);
-        list.clear();
-        return list;
+        return callInWriteScope(() -> {
+            var list = listFactory.createFromLabel(label);
+            list.clear();
+            return list;
+        });
     }
 
     /**
@@ -971,10 +1904,20 @@ public class OntologyConnector implements OntologyInterface {
      */
     @Override
     public OrderedOntologyList addList(String label, List<Individual> members) {
+        return buildList(label).addAll(members).build();
+    }
+
+    /**
+     * Returns a {@link OrderedOntologyList.Builder} that creates a list with the provided label and all its members at
+     * once. If a list with the provided label exists, the builder clears the list and adds the members.
+     *
+     * @param label Label of the list that should be built
+     * @return the builder
+     */
+    @Override
+    public OrderedOntologyList.Builder buildList(String label) {
         listFactory.checkListImport();
-        var list = addEmptyList(label);
-        list.addAll(members);
-        return list;
+        return listFactory.builder(label);
     }
 
     /**
@@ -986,7 +1929,6 @@ public class OntologyConnector implements OntologyInterface {
      */
     @Override
     public Optional<OrderedOntologyList> getList(String name) {
-        listFactory.checkListImport();
         var individualOpt = getIndividual(name);
         if (individualOpt.isEmpty()) {
             return Optional.empty();
@@ -1002,7 +1944,6 @@ public class OntologyConnector implements OntologyInterface {
      */
     @Override
     public Optional<OrderedOntologyList> getListByIri(String uri) {
-        listFactory.checkListImport();
         var listIndividualOpt = getIndividualByIri(uri);
         if (listIndividualOpt.isPresent()) {
             return listFactory.getOrderedListOntologyFromIndividual(listIndividualOpt.get());
@@ -1022,6 +1963,56 @@ public class OntologyConnector implements OntologyInterface {
         return listFactory.getOrderedListOntologyFromIndividual(individual);
     }
 
+    /**
+     * Sets the mode that is used to number the slots of all lists via <code>olo:index</code>. Switching back to
+     * {@link OrderedOntologyList.IndexingMode#DENSE} compacts all lists.
+     *
+     * @param indexingMode the mode
+     */
+    @Override
+    public void setListIndexingMode(OrderedOntologyList.IndexingMode indexingMode) {
+        listFactory.setIndexingMode(indexingMode);
+    }
+
+    /**
+     * Returns the mode that is used to number the slots of all lists via <code>olo:index</code>.
+     *
+     * @return the mode
+     */
+    @Override
+    public OrderedOntologyList.IndexingMode getListIndexingMode() {
+        return listFactory.getIndexingMode();
+    }
+
+    /**
+     * Enables or disables persisting the last slot of each list as <code>olox:tail</code> of the list individual. The
+     * property is defined in the bundled extension of the olo ontology, which is imported when this is enabled.
+     *
+     * @param enabled whether the tail should be persisted
+     */
+    @Override
+    public void setListTailPersistence(boolean enabled) {
+        listFactory.setTailPersistence(enabled);
+    }
+
+    /**
+     * Enables or disables lean slots for new list elements.
+     *
+     * @param enabled whether new slots should be lean
+     */
+    @Override
+    public void setLeanListSlots(boolean enabled) {
+        listFactory.setLeanSlots(enabled);
+    }
+
+    /**
+     * Restores dense indices (0 to n-1) for all lists of the ontology.
+     */
+    @Override
+    public void compactLists() {
+        listFactory.compactLists();
+    }
+
     /**************/
     /* PROPERTIES */
     /**************/
@@ -1201,6 +2192,31 @@ public class OntologyConnector implements OntologyInterface {
         }
     }
 
+    /**
+     * Adds a {@link ObjectProperty} with the given Iri and returns it. If a {@link ObjectProperty} with that Iri already
+     * exists, returns that one.
+     *
+     * @param iri Iri of the property
+     * @return the created or pre-existing ObjectProperty
+     */
+    @Override
+    public ObjectProperty addObjectPropertyByIri(String iri) {
+        String uri = null;
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            uri = ontModel.expandPrefix(iri);
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+
+        ontModel.enterCriticalSection(Lock.WRITE);
+        try {
+            return ontModel.createObjectProperty(uri);
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+    }
+
     /**
      * Adds a Property with a value to a given Individual.
      *
@@ -1,12 +1,16 @@
 package edu.kit.kastel.informalin.ontology;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apache.jena.ontology.Individual;
 import org.apache.jena.ontology.OntClass;
 import org.apache.jena.rdf.model.RDFNode;
 import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
 
 interface OntologyIndividualAdapter {
 
@@ -52,6 +56,75 @@ interface OntologyIndividualAdapter {
      */
     ImmutableList<Individual> getInferredIndividualsOfClass(String className);
 
+    /**
+     * Similar to {@link #getInferredIndividualsOfClass(String)}, but the query is aborted once the timeout of the given
+     * options has passed or their cancellation token is cancelled. In this case, the result contains the individuals
+     * found so far. The bounds are checked between the steps of the reasoner, i.e., before and after preparing the
+     * reasoner and between pulling statements from it. A single step cannot be interrupted, so the query may exceed
+     * its bounds by the duration of the current step.
+     *
+     * @param className name of the class to retrieve individuals from
+     * @param options   options that bound the query
+     * @return the (possibly partial) Individuals for the given class (name), including inferred ones
+     */
+    InferenceResult getInferredIndividualsOfClass(String className, InferenceOptions options);
+
+    /**
+     * Returns the (inferred) individuals of each of the given classes. In contrast to calling
+     * {@link #getInferredIndividualsOfClass(String)} for each class, this uses a single inference pass and a single scan
+     * over the rdf:type statements. The query is not bounded.
+     *
+     * @param classes the classes to retrieve individuals from
+     * @return map from each given class to its Individuals, including inferred ones
+     */
+    ImmutableMap<OntClass, ImmutableList<Individual>> getInferredIndividualsOfClasses(Collection<OntClass> classes);
+
+    /**
+     * Returns one page of the (inferred) individuals of the class with the given name. Individuals before the page are
+     * skipped without creating {@link Individual} objects for them.
+     *
+     * @param className name of the class to retrieve individuals from
+     * @param offset    number of individuals to skip
+     * @param limit     maximal number of individuals to return
+     * @return List of at most <code>limit</code> Individuals for the given class (name), including inferred ones
+     */
+    ImmutableList<Individual> getInferredIndividualsOfClass(String className, int offset, int limit);
+
+    /**
+     * Returns a cursor over the (inferred) individuals of the class with the given name. The individuals are pulled
+     * from the inference model on demand. The ontology should not be modified while iterating.
+     *
+     * @param className name of the class to retrieve individuals from
+     * @return Iterator over the Individuals for the given class (name), including inferred ones
+     */
+    Iterator<Individual> iterateInferredIndividualsOfClass(String className);
+
+    /**
+     * Same as {@link #iterateInferredIndividualsOfClass(String)}, but returns the individuals as lazy {@link Stream}.
+     * Closing the stream releases the underlying iterator early.
+     *
+     * @param className name of the class to retrieve individuals from
+     * @return Stream of the Individuals for the given class (name), including inferred ones
+     */
+    Stream<Individual> streamInferredIndividualsOfClass(String className);
+
+    /**
+     * Counts the (inferred) individuals of the class with the given name without creating {@link Individual} objects.
+     *
+     * @param className name of the class
+     * @return the number of Individuals for the given class (name), including inferred ones
+     */
+    long countInferredIndividualsOfClass(String className);
+
+    /**
+     * Checks whether the class with the given name has at least one (inferred) individual. Stops at the first
+     * individual and does not create {@link Individual} objects.
+     *
+     * @param className name of the class
+     * @return <code>true</code> if there is an Individual for the given class (name), including inferred ones
+     */
+    boolean hasInferredIndividualsOfClass(String className);
+
     /**
      * Adds an individual with the given name to the default (prefix) namespace.
      *
@@ -81,6 +154,13 @@ interface OntologyIndividualAdapter {
      */
     void removeIndividual(Individual individual);
 
+    /**
+     * Removes the given individuals from the ontology. All individuals are removed while holding the write lock once.
+     *
+     * @param individuals the individuals
+     */
+    void removeIndividuals(Collection<? extends Individual> individuals);
+
     /**
      * Adds an Individual to the given class. If the Individual does not exist, creates the individual as well.
      *
@@ -90,6 +170,17 @@ interface OntologyIndividualAdapter {
      */
     Individual addIndividualToClass(String name, OntClass clazz);
 
+    /**
+     * Adds an Individual with the given Iri to the given class. In contrast to
+     * {@link #addIndividualToClass(String, OntClass)}, the individual gets no label and is directly created with the
+     * given class. If the Individual already exists, it is added to the class as well.
+     *
+     * @param iri   Iri of the individual
+     * @param clazz Class the individual should be added to
+     * @return the individual with the given Iri
+     */
+    Individual addIndividualByIri(String iri, OntClass clazz);
+
     /**
      * Sets the class of an Individual. If the Individual does not exist, creates the individual as well.
      *
@@ -2,11 +2,16 @@ package edu.kit.kastel.informalin.ontology;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.jena.ontology.OntProperty;
 import org.apache.jena.ontology.OntResource;
+import org.apache.jena.rdf.model.ModelChangedListener;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.riot.Lang;
 import org.eclipse.collections.api.list.ImmutableList;
 
@@ -30,6 +35,102 @@ public interface OntologyInterface extends OntologyClassAdapter, OntologyIndivid
      */
     boolean validateOntology();
 
+    /**
+     * Validates the ontology lazily. The returned iterator computes the {@link ValidationReport}s only when they are
+     * requested and stops once one of the bounds of the given {@link ValidationOptions} is reached. The ontology should
+     * not be modified while iterating. Use {@link ValidationReportIterator#isTruncated()} to find out whether reports
+     * were left out because of a bound.
+     *
+     * @param options options that bound the validation
+     * @return iterator over the reports
+     */
+    ValidationReportIterator getValidationReports(ValidationOptions options);
+
+    /**
+     * Same as {@link #getValidationReports(ValidationOptions)}, but returns the reports as lazy {@link Stream}.
+     *
+     * @param options options that bound the validation
+     * @return stream of the reports
+     */
+    Stream<ValidationReport> streamValidationReports(ValidationOptions options);
+
+    /**
+     * Creates a {@link ValidationSession} for this ontology. The session keeps the inference model alive and only
+     * re-checks the resources that changed since its last run. Close the session when it is not needed anymore.
+     *
+     * @return a new validation session
+     */
+    ValidationSession createValidationSession();
+
+    /**
+     * Returns the metrics about the inference-backed queries of this connector, e.g., their timing.
+     *
+     * @return the inference metrics
+     */
+    InferenceMetrics getInferenceMetrics();
+
+    /**
+     * Enables the incremental materialization of the common entailments (sub-classes, sub-properties, domain and range
+     * typing, and inverse properties). Afterwards, the methods that return inferred individuals read from the
+     * materialized closure instead of creating a new reasoner for each call. The closure is kept up to date with every
+     * change to the ontology.
+     */
+    void enableIncrementalMaterialization();
+
+    /**
+     * Disables the incremental materialization. Inferred individuals are then again retrieved using a full reasoner.
+     */
+    void disableIncrementalMaterialization();
+
+    /**
+     * Runs the given operation within one write scope, i.e., while holding the write lock of the ontology. Calls to this
+     * connector within the operation reuse the scope, so other threads observe either none or all of the changes of
+     * the operation.
+     *
+     * @param operation the operation
+     */
+    void runInWriteScope(Runnable operation);
+
+    /**
+     * Same as {@link #runInWriteScope(Runnable)}, but returns the result of the operation.
+     *
+     * @param <T>       type of the result
+     * @param operation the operation
+     * @return the result of the operation
+     */
+    <T> T callInWriteScope(Supplier<T> operation);
+
+    /**
+     * Runs the given operation within one read scope, i.e., while holding the read lock of the ontology, and returns its
+     * result. The operation must not modify the ontology.
+     *
+     * @param <T>       type of the result
+     * @param operation the operation
+     * @return the result of the operation
+     */
+    <T> T callInReadScope(Supplier<T> operation);
+
+    /**
+     * Registers a listener that is notified about every statement that is added to or removed from the ontology.
+     *
+     * @param listener the listener
+     */
+    void addModelChangedListener(ModelChangedListener listener);
+
+    /**
+     * Unregisters a listener that was registered with {@link #addModelChangedListener(ModelChangedListener)}.
+     *
+     * @param listener the listener
+     */
+    void removeModelChangedListener(ModelChangedListener listener);
+
+    /**
+     * Adds the given statements to the ontology at once, within one write scope.
+     *
+     * @param statements the statements
+     */
+    void addStatements(List<Statement> statements);
+
     /**
      * Adds/Sets a namespace prefix
      *
@@ -55,6 +156,69 @@ public interface OntologyInterface extends OntologyClassAdapter, OntologyIndivid
      */
     boolean save(String file, Lang language);
 
+    /**
+     * Saves the ontology as binary snapshot in the RDF Thrift format. Snapshots load much faster than RDF/XML. A
+     * connector that is created with a path to a snapshot (file extension <code>.rt</code> or <code>.trdf</code>)
+     * detects the format and loads the snapshot directly.
+     *
+     * @param file String containing the path of the file the snapshot should be saved to
+     * @return true if saving was successful, otherwise false is returned
+     */
+    boolean saveSnapshot(String file);
+
+    /**
+     * Same as {@link #saveAsync(String, Lang)} using the RDF/XML language.
+     *
+     * @param file String containing the path of the file the ontology should be saved to
+     * @return future that completes with the {@link SaveResult} once the file is written
+     */
+    CompletableFuture<SaveResult> saveAsync(String file);
+
+    /**
+     * Saves the ontology to a given file (path) in the background. Only a snapshot of the ontology is taken on the
+     * calling thread; serializing and writing the snapshot happens on a background thread, so writers are not blocked
+     * while the file is written. The file contains the state of the ontology at the time this method was called.
+     *
+     * @param file     String containing the path of the file the ontology should be saved to
+     * @param language The language the file should be written in
+     * @return future that completes with the {@link SaveResult} once the file is written or exceptionally if writing
+     *         failed
+     */
+    CompletableFuture<SaveResult> saveAsync(String file, Lang language);
+
+    /**
+     * Enables the change log mode: the current state is written to the given base snapshot (RDF Thrift) and every
+     * further change is appended to the given change log. Persisting the changes with {@link #checkpoint()} then only
+     * costs as much as the changes themselves instead of rewriting the whole ontology.
+     *
+     * @param snapshotFile  path of the base snapshot; needs the file extension <code>.rt</code> or <code>.trdf</code>
+     * @param changeLogFile path of the change log
+     * @return true if the change log was enabled successfully, otherwise false is returned
+     */
+    boolean enableChangeLog(String snapshotFile, String changeLogFile);
+
+    /**
+     * Persists the changes that were appended to the change log since the last checkpoint.
+     *
+     * @return true if the changes were persisted, false if no change log is enabled or writing failed
+     */
+    boolean checkpoint();
+
+    /**
+     * Merges the change log into the base snapshot, i.e., writes the current state as new base snapshot and empties
+     * the change log.
+     *
+     * @return true if the change log was compacted, false if no change log is enabled or writing failed
+     */
+    boolean compactChangeLog();
+
+    /**
+     * Disables the change log mode. Pending changes are persisted before the change log is closed.
+     *
+     * @return true if the change log was closed successfully or no change log was enabled, otherwise false
+     */
+    boolean disableChangeLog();
+
     /**
      * Add an Ontology based on its IRI
      *
@@ -33,6 +33,15 @@ interface OntologyListAdapter {
      */
     OrderedOntologyList addList(String label, List<Individual> members);
 
+    /**
+     * Returns a {@link OrderedOntologyList.Builder} that creates a list with the provided label and all its members at
+     * once. If a list with the provided label exists, the builder clears the list and adds the members.
+     *
+     * @param label Label of the list that should be built
+     * @return the builder
+     */
+    OrderedOntologyList.Builder buildList(String label);
+
     /**
      * Returns an {@link Optional} that contains a {@link OrderedOntologyList} if a list with the specified name/label
      * exists
@@ -59,4 +68,43 @@ interface OntologyListAdapter {
      */
     Optional<OrderedOntologyList> transformIntoOrderedOntologyList(Individual individual);
 
+    /**
+     * Sets the mode that is used to number the slots of all lists via <code>olo:index</code>. Switching back to
+     * {@link OrderedOntologyList.IndexingMode#DENSE} compacts all lists.
+     *
+     * @param indexingMode the mode
+     */
+    void setListIndexingMode(OrderedOntologyList.IndexingMode indexingMode);
+
+    /**
+     * Returns the mode that is used to number the slots of all lists via <code>olo:index</code>.
+     *
+     * @return the mode
+     */
+    OrderedOntologyList.IndexingMode getListIndexingMode();
+
+    /**
+     * Enables or disables persisting the last slot of each list as <code>olox:tail</code> of the list individual. With
+     * a persisted tail, appending to a list whose slots are not cached (e.g., a list that was just loaded) does not need
+     * to walk the list. Lists store their tail with their next modification.
+     *
+     * @param enabled whether the tail should be persisted
+     */
+    void setListTailPersistence(boolean enabled);
+
+    /**
+     * Enables or disables lean slots for new list elements. Lean slots get the deterministic Iri
+     * <code>&lt;list Iri&gt;_slot_&lt;n&gt;</code> and are created directly with the slot class. In contrast to regular
+     * slots, they have no label and need no random Iri, which saves one triple (including its literal) per element.
+     *
+     * @param enabled whether new slots should be lean
+     */
+    void setLeanListSlots(boolean enabled);
+
+    /**
+     * Restores dense indices (0 to n-1) for all lists of the ontology, e.g., before exporting lists that were built
+     * with {@link OrderedOntologyList.IndexingMode#SPARSE} indices.
+     */
+    void compactLists();
+
 }
@@ -103,6 +103,15 @@ interface OntologyPropertyAdapter {
      */
     ObjectProperty addObjectProperty(String name);
 
+    /**
+     * Adds a {@link ObjectProperty} with the given Iri and returns it. If a {@link ObjectProperty} with that Iri already
+     * exists, returns that one.
+     *
+     * @param iri Iri of the property
+     * @return the created or pre-existing ObjectProperty
+     */
+    ObjectProperty addObjectPropertyByIri(String iri);
+
     /**
      * Adds a Property with a value to a given Individual.
      *
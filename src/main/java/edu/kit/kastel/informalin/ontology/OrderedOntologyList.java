@@ -1,23 +1,47 @@
 package edu.kit.kastel.informalin.ontology;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
-
-import org.apache.commons.lang3.NotImplementedException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.jena.datatypes.DatatypeFormatException;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
 import org.apache.jena.ontology.Individual;
 import org.apache.jena.ontology.OntClass;
 import org.apache.jena.ontology.OntProperty;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
 import org.apache.jena.vocabulary.XSD;
 
 /**
  * This class represents an ordered list that is saved and backed in an ontology. Therefore, all operations read and/or
  * write from/to the ontology.
  *
+ * Every mutating operation runs within one write scope of the connector (see
+ * {@link OntologyInterface#runInWriteScope(Runnable)}), so other readers of the ontology never observe a partially
+ * linked list. Index-based reads run within one read scope. Instances themselves are not thread-safe.
+ *
  * To create an {@link OrderedOntologyList}, use {@link OrderedOntologyList.Factory}. For this, you need an existing
  * {@link OntologyConnector}.
  *
@@ -27,23 +51,60 @@ import org.apache.jena.vocabulary.XSD;
 public class OrderedOntologyList implements List<Individual> {
     public static final String LIST_BASE_URI = "https://informalin.github.io/knowledgebases/external/olo/orderedlistontology.owl#";
     public static final String LIST_PREFIX = "olo";
+    // location of the bundled copy of the ordered list ontology on the classpath
+    static final String LIST_ONTOLOGY_LOCATION = "olo/orderedlistontology.owl";
+    // terms of the connector that are not part of olo live in an own extension ontology that is bundled as well
+    public static final String LIST_EXTENSION_URI = "https://informalin.github.io/knowledgebases/informalin/orderedlistextension.owl#";
+    public static final String LIST_EXTENSION_PREFIX = "olox";
+    static final String LIST_EXTENSION_LOCATION = "olo/orderedlistextension.owl";
     protected static final String LIST_CLASS = "OrderedList";
-    private static final String LIST_SLOT_CLASS = "Slot";
-    private static final String LIST_PROPERTY_ORDERED_LIST = "ordered_list";
-    private static final String LIST_PROPERTY_LENGTH = "length";
-    private static final String LIST_PROPERTY_SLOT = "slot";
-    private static final String LIST_PROPERTY_NEXT = "next";
-    private static final String LIST_PROPERTY_PREVIOUS = "previous";
-    private static final String LIST_PROPERTY_INDEX = "index";
-    private static final String LIST_PROPERTY_ITEM = "item";
+    static final String LIST_SLOT_CLASS = "Slot";
+    static final String LIST_PROPERTY_ORDERED_LIST = "ordered_list";
+    static final String LIST_PROPERTY_LENGTH = "length";
+    static final String LIST_PROPERTY_SLOT = "slot";
+    static final String LIST_PROPERTY_NEXT = "next";
+    static final String LIST_PROPERTY_PREVIOUS = "previous";
+    static final String LIST_PROPERTY_INDEX = "index";
+    static final String LIST_PROPERTY_ITEM = "item";
+    static final String LIST_PROPERTY_TAIL = "tail";
+    static final long SPARSE_INDEX_GAP = 1024;
+    static final String SLOT_SUFFIX = "_slot_";
+
+    /**
+     * Modes for numbering the slots of a list via <code>olo:index</code>.
+     */
+    public enum IndexingMode {
+        /**
+         * Slots are numbered densely from 0 to n-1. Inserting and removing renumbers all following slots.
+         */
+        DENSE,
+        /**
+         * Slots are numbered with gaps in between. New slots are placed into the gap between their neighbours; only if
+         * there is no gap left, the following slots are renumbered locally until the order is restored. Removing does
+         * not renumber at all. The indices still reflect the order of the slots, but they are not positions anymore.
+         * Use compaction to restore dense indices, e.g., before exporting.
+         */
+        SPARSE
+    }
 
     private final OntologyInterface oc;
+    private final Factory factory;
+    private final ListChangeTracker changeTracker;
+    private final ListVocabulary vocabulary;
     private final Individual listIndividual;
 
     private final String label;
 
     private int slotIdCounter = 0;
 
+    // cached state of the list; only valid as long as cacheVersion matches the version of this list in the tracker
+    private List<Individual> slots;
+    private Individual tail;
+    private int length = -1;
+    private long cacheVersion = -1;
+    // slot that was resolved last while the slots were not cached, so nearby positions can be reached from there
+    private volatile SlotPosition lastResolvedSlot;
+
     /**
      * Factory to create {@link OrderedOntologyList}s that are backed by an ontology. Therefore, the {@link Factory}
      * needs access to an existing {@link OntologyConnector} with an ontology
@@ -53,6 +114,13 @@ public class OrderedOntologyList implements List<Individual> {
      */
     protected static class Factory {
         private OntologyInterface oc;
+        private final ListChangeTracker changeTracker = new ListChangeTracker();
+        private volatile ListVocabulary vocabulary;
+        private volatile IndexingMode indexingMode = IndexingMode.DENSE;
+        private volatile OntProperty tailProperty;
+        private volatile boolean leanSlots = false;
+        private volatile boolean listImportPresent = false;
+        private final ConcurrentMap<String, AtomicLong> nextSlotIds = new ConcurrentHashMap<>();
 
         protected static Factory get(OntologyInterface oc) {
             return new Factory(oc);
@@ -61,10 +129,11 @@ public class OrderedOntologyList implements List<Individual> {
         private Factory(OntologyInterface oc) {
             this.oc = oc;
             oc.setNsPrefix(LIST_PREFIX, LIST_BASE_URI);
+            oc.addModelChangedListener(changeTracker);
         }
 
         public OrderedOntologyList createFromListIndividual(Individual listIndividual) {
-            return new OrderedOntologyList(oc, listIndividual);
+            return new OrderedOntologyList(this, requireVocabulary(), listIndividual);
         }
 
         /**
@@ -76,19 +145,34 @@ public class OrderedOntologyList implements List<Individual> {
          * @param label Label of the list individual
          */
         protected OrderedOntologyList createFromLabel(String label) {
-            return new OrderedOntologyList(oc, label);
+            return oc.callInWriteScope(() -> new OrderedOntologyList(this, label));
         }
 
-        protected Optional<OrderedOntologyList> getOrderedListOntologyFromIndividual(Individual listIndividual) {
-            oc.setNsPrefix(LIST_PREFIX, LIST_BASE_URI);
+        protected Builder builder(String label) {
+            return new Builder(this, label);
+        }
 
-            if (oc.hasOntClass(listIndividual, LIST_PREFIX, LIST_CLASS)) {
-                return Optional.of(createFromListIndividual(listIndividual));
+        /**
+         * Returns the given individual as {@link OrderedOntologyList} if it is an ordered list. This is a pure read
+         * operation: if the olo vocabulary is not available (e.g., because olo is not imported), an empty Optional is
+         * returned instead of importing it. The olo prefix is registered when the factory is created.
+         */
+        protected Optional<OrderedOntologyList> getOrderedListOntologyFromIndividual(Individual listIndividual) {
+            if (oc.hasOntClass(listIndividual, LIST_BASE_URI + LIST_CLASS)) {
+                return getVocabulary().map(resolvedVocabulary -> new OrderedOntologyList(this, resolvedVocabulary, listIndividual));
             }
             return Optional.empty();
         }
 
+        /**
+         * Makes sure that the olo ontology is imported. The import is resolved from the bundled copy on the classpath.
+         * Once the import is present, it is remembered, so later calls return immediately.
+         */
         protected void checkListImport() {
+            if (listImportPresent) {
+                return;
+            }
+
             // check imports
             if (!oc.hasImport(LIST_BASE_URI)) {
                 oc.addOntologyImport(LIST_BASE_URI);
@@ -96,12 +180,196 @@ public class OrderedOntologyList implements List<Individual> {
 
             // set prefix map
             oc.setNsPrefix(LIST_PREFIX, LIST_BASE_URI);
+
+            requireVocabulary();
+            listImportPresent = true;
+        }
+
+        protected IndexingMode getIndexingMode() {
+            return indexingMode;
+        }
+
+        /**
+         * Sets the mode that is used to number the slots of all lists of this factory. When switching from
+         * {@link IndexingMode#SPARSE} to {@link IndexingMode#DENSE}, all lists are compacted first, as dense
+         * renumbering relies on the indices being positions. Compacting and switching happen within one write scope,
+         * so no list is changed in between.
+         *
+         * @param indexingMode the new mode
+         */
+        protected void setIndexingMode(IndexingMode indexingMode) {
+            Objects.requireNonNull(indexingMode);
+            oc.runInWriteScope(() -> {
+                if (this.indexingMode == IndexingMode.SPARSE && indexingMode == IndexingMode.DENSE) {
+                    compactLists();
+                }
+                this.indexingMode = indexingMode;
+            });
+        }
+
+        /**
+         * Returns the property that is used to persist the last slot of a list, if tail persistence is enabled.
+         */
+        protected Optional<OntProperty> getTailProperty() {
+            return Optional.ofNullable(tailProperty);
+        }
+
+        /**
+         * Enables or disables persisting the last slot of each list via <code>olox:tail</code>. The property is defined
+         * in the bundled extension of the olo ontology (see {@link #LIST_EXTENSION_URI}), which is imported when tail
+         * persistence is enabled the first time.
+         *
+         * @param enabled whether the tail should be persisted
+         */
+        protected void setTailPersistence(boolean enabled) {
+            if (!enabled) {
+                tailProperty = null;
+                return;
+            }
+            checkListImport();
+            if (!oc.hasImport(LIST_EXTENSION_URI)) {
+                oc.addOntologyImport(LIST_EXTENSION_URI);
+            }
+            oc.setNsPrefix(LIST_EXTENSION_PREFIX, LIST_EXTENSION_URI);
+            tailProperty = ListVocabulary.resolveTailProperty(oc)
+                    .orElseThrow(() -> new IllegalStateException("Could not import the ordered list extension"));
+        }
+
+        protected boolean isLeanSlots() {
+            return leanSlots;
+        }
+
+        protected void setLeanSlots(boolean leanSlots) {
+            this.leanSlots = leanSlots;
+        }
+
+        /**
+         * Returns the next id for a lean slot of the list with the given Iri. The ids are counted per list, starting
+         * with the given initial id when the list is used the first time. This does not lock, as it is called within
+         * the write scope of the list.
+         */
+        protected long nextSlotId(String listIri, long initialId) {
+            return nextSlotIds.computeIfAbsent(listIri, iri -> new AtomicLong(initialId)).getAndIncrement();
+        }
+
+        /**
+         * Restores dense indices (0 to n-1) for all lists in the ontology within one write scope. Lists that are
+         * already dense are not changed.
+         */
+        protected void compactLists() {
+            var resolvedVocabulary = getVocabulary();
+            if (resolvedVocabulary.isEmpty()) {
+                return;
+            }
+            var listClass = resolvedVocabulary.get().getListClass();
+            oc.runInWriteScope(() -> {
+                for (var listIndividual : oc.getIndividualsOfClass(listClass)) {
+                    createFromListIndividual(listIndividual).compactIndices();
+                }
+            });
+        }
+
+        /**
+         * Returns the olo vocabulary. It is resolved once, when it is available the first time, and then handed to every
+         * list of this factory.
+         *
+         * @return the vocabulary or an empty Optional if olo is not available
+         */
+        private Optional<ListVocabulary> getVocabulary() {
+            var resolvedVocabulary = vocabulary;
+            if (resolvedVocabulary == null) {
+                // resolving it twice in a race is harmless, both resolve the same handles
+                var resolved = ListVocabulary.resolve(oc);
+                resolved.ifPresent(presentVocabulary -> vocabulary = presentVocabulary);
+                return resolved;
+            }
+            return Optional.of(resolvedVocabulary);
+        }
+
+        /**
+         * Returns the olo vocabulary for operations that imported olo before, see {@link #checkListImport()}.
+         */
+        private ListVocabulary requireVocabulary() {
+            return getVocabulary().orElseThrow(() -> new IllegalStateException("Could not resolve the ordered list ontology"));
+        }
+
+    }
+
+    /**
+     * Builder that creates an {@link OrderedOntologyList} with all its members at once. The members are collected
+     * first; {@link #build()} then creates the statements of all slots with pre-generated Iris (see
+     * {@link OntologyInterface#setLeanListSlots(boolean)} for the scheme) and adds them to the ontology in one batch
+     * within one write scope.
+     *
+     * To create a builder, use {@link OntologyInterface#buildList(String)}.
+     *
+     * @author Jan Keim
+     *
+     */
+    public static class Builder {
+        private final Factory factory;
+        private final String label;
+        private final List<Individual> members = new ArrayList<>();
+
+        private Builder(Factory factory, String label) {
+            this.factory = factory;
+            this.label = label;
+        }
+
+        /**
+         * Adds the given individual as next member of the list.
+         *
+         * @param individual the individual
+         * @return this builder
+         */
+        public Builder add(Individual individual) {
+            members.add(Objects.requireNonNull(individual));
+            return this;
+        }
+
+        /**
+         * Adds the given individuals in their iteration order as next members of the list.
+         *
+         * @param individuals the individuals
+         * @return this builder
+         */
+        public Builder addAll(Iterable<? extends Individual> individuals) {
+            individuals.forEach(this::add);
+            return this;
+        }
+
+        /**
+         * Adds the individuals of the given stream in their encounter order as next members of the list.
+         *
+         * @param individuals the individuals
+         * @return this builder
+         */
+        public Builder addAll(Stream<? extends Individual> individuals) {
+            individuals.forEachOrdered(this::add);
+            return this;
         }
 
+        /**
+         * Creates the list with the collected members. If a list with the label of this builder exists, the list is
+         * cleared first.
+         *
+         * @return the list
+         */
+        public OrderedOntologyList build() {
+            return factory.oc.callInWriteScope(() -> {
+                var list = factory.createFromLabel(label);
+                list.clear();
+                list.fill(members);
+                return list;
+            });
+        }
     }
 
-    private OrderedOntologyList(OntologyInterface oc, Individual listIndividual) {
-        this.oc = oc;
+    private OrderedOntologyList(Factory factory, ListVocabulary vocabulary, Individual listIndividual) {
+        oc = factory.oc;
+        this.factory = factory;
+        changeTracker = factory.changeTracker;
+        this.vocabulary = vocabulary;
         this.listIndividual = listIndividual;
         var potLabel = oc.getLabel(listIndividual);
         if (potLabel == null) {
@@ -111,18 +379,20 @@ public class OrderedOntologyList implements List<Individual> {
         }
     }
 
-    private OrderedOntologyList(OntologyInterface oc, String label) {
-        this.oc = oc;
+    private OrderedOntologyList(Factory factory, String label) {
+        oc = factory.oc;
+        this.factory = factory;
+        changeTracker = factory.changeTracker;
+        vocabulary = factory.requireVocabulary();
         this.label = label;
-        var listClassUri = oc.createUri(LIST_PREFIX, LIST_CLASS);
+        var listClass = vocabulary.getListClass();
         var listOpt = getListIndividualByLabel(label);
         if (listOpt.isPresent()) {
             listIndividual = listOpt.get();
-            if (!oc.hasOntClass(listIndividual, listClassUri)) {
+            if (!oc.hasOntClass(listIndividual, listClass.getURI())) {
                 throw new IllegalArgumentException("Provided a label of an invalid individual");
             }
         } else {
-            var listClass = oc.getClassByIri(listClassUri).orElseThrow();
             var list = oc.addIndividualToClass(label, listClass);
             listIndividual = list;
             setLength(0);
@@ -131,8 +401,7 @@ public class OrderedOntologyList implements List<Individual> {
     }
 
     private Optional<Individual> getListIndividualByLabel(String label) {
-        var listClassUri = oc.createUri(LIST_PREFIX, LIST_CLASS);
-        var individuals = oc.getIndividualsOfClass(oc.getClassByIri(listClassUri).orElseThrow());
+        var individuals = oc.getIndividualsOfClass(vocabulary.getListClass());
         for (var individual : individuals) {
             String individualLabel = individual.getLabel(null);
             if (label.equalsIgnoreCase(individualLabel)) {
@@ -147,15 +416,57 @@ public class OrderedOntologyList implements List<Individual> {
     }
 
     public List<Individual> toList() {
-        return readElements();
+        return oc.callInReadScope(this::readElements);
     }
 
     private List<Individual> readElements() {
-        var headSlot = getHead();
-        if (headSlot.isEmpty()) {
-            return new ArrayList<>();
+        List<Individual> individuals = new ArrayList<>();
+        for (var slot : getSlots()) {
+            extractItemOutOfSlot(slot).ifPresent(individuals::add);
         }
-        return collectListElements(headSlot.get());
+        return individuals;
+    }
+
+    /**
+     * Returns the slots of this list in list order. The slots are cached, so index-based access does not need to walk
+     * the list. The cache is re-read if this list was changed from outside of this instance; changes to other lists do
+     * not affect it.
+     */
+    private List<Individual> getSlots() {
+        validateCache();
+        if (slots == null) {
+            slots = collectSlots();
+        }
+        return slots;
+    }
+
+    /**
+     * Drops the cached state if this list was changed from outside of this instance.
+     */
+    private void validateCache() {
+        var version = getListVersion();
+        if (cacheVersion != version) {
+            slots = null;
+            tail = null;
+            length = -1;
+            lastResolvedSlot = null;
+            cacheVersion = version;
+        }
+    }
+
+    /**
+     * Marks the cached state as up to date after this instance changed the list and updated the cache accordingly.
+     */
+    private void markCacheCurrent() {
+        lastResolvedSlot = null;
+        cacheVersion = getListVersion();
+    }
+
+    /**
+     * Returns the number of changes to this list so far, see {@link ListChangeTracker}.
+     */
+    private long getListVersion() {
+        return changeTracker.getVersion(listIndividual);
     }
 
     private Optional<Individual> getHead() {
@@ -164,34 +475,159 @@ public class OrderedOntologyList implements List<Individual> {
     }
 
     private Optional<Individual> getLastSlot() {
-        var lastIndex = size() - 1;
-        if (lastIndex < 0) {
+        var currentSlots = getSlots();
+        if (currentSlots.isEmpty()) {
             return Optional.empty();
         }
-        var lastSlot = getSlot(lastIndex);
-        return Optional.ofNullable(lastSlot);
+        return Optional.of(currentSlots.get(currentSlots.size() - 1));
+    }
+
+    /**
+     * Returns the last slot of the list without walking the list, if it is known. The last slot is known if the slots
+     * are cached, if this instance appended the last slot itself, or if the persisted tail is still the last slot of
+     * this list.
+     */
+    private Optional<Individual> findTail() {
+        if (tail != null) {
+            return Optional.of(tail);
+        }
+        if (slots != null) {
+            return getLastSlot();
+        }
+        var tailProperty = factory.getTailProperty();
+        if (tailProperty.isEmpty()) {
+            return Optional.empty();
+        }
+        var persistedTail = oc.transformIntoIndividual(oc.getPropertyValue(listIndividual, tailProperty.get()));
+        return persistedTail.filter(this::isLastSlotOfList);
+    }
+
+    private boolean isLastSlotOfList(Individual slot) {
+        return slot.getPropertyValue(getNextProperty()) == null && listIndividual.equals(slot.getPropertyValue(getOrderedListProperty()));
+    }
+
+    private void setTail(Individual newTail) {
+        var previousTail = tail;
+        tail = newTail;
+        var tailProperty = factory.getTailProperty();
+        if (tailProperty.isEmpty()) {
+            return;
+        }
+        if (newTail == null) {
+            oc.removeAllOfProperty(listIndividual, tailProperty.get());
+        } else if (!newTail.equals(previousTail)) {
+            oc.setPropertyToIndividual(listIndividual, tailProperty.get(), newTail);
+        }
     }
 
     private void setHead(Individual individual) {
         listIndividual.setPropertyValue(getSlotProperty(), individual);
     }
 
-    private List<Individual> collectListElements(Individual headSlot) {
-        List<Individual> individuals = new ArrayList<>();
-        var currSlot = headSlot;
+    private List<Individual> collectSlots() {
+        List<Individual> collectedSlots = new ArrayList<>();
+        var currSlot = getHead().orElse(null);
         while (currSlot != null) {
-            var curr = extractItemOutOfSlot(currSlot);
-            if (curr.isPresent()) {
-                individuals.add(curr.get());
+            collectedSlots.add(currSlot);
+            currSlot = getNextSlot(currSlot);
+        }
+        return collectedSlots;
+    }
+
+    /**
+     * Returns the given number of slots starting at the given position. If the slots are not cached, only the slot at
+     * the given position is looked up (see {@link #findSlotAt(int)}) and the range is walked from there, so the slots
+     * of the rest of the list are not read.
+     */
+    private List<Individual> collectSlots(int from, int count) {
+        validateCache();
+        if (slots != null) {
+            return new ArrayList<>(slots.subList(from, from + count));
+        }
+        List<Individual> rangeSlots = new ArrayList<>(count);
+        var currSlot = count > 0 ? findSlotAt(from) : null;
+        while (currSlot != null && rangeSlots.size() < count) {
+            rangeSlots.add(currSlot);
+            currSlot = getNextSlot(currSlot);
+        }
+        return rangeSlots;
+    }
+
+    /**
+     * Returns the slot at the given position without caching the slots. In {@link IndexingMode#DENSE}, the slot is found
+     * via its <code>olo:index</code>; otherwise (or if no slot of this list has that index), the list is walked, see
+     * {@link #walkToSlot(int)}.
+     */
+    private Individual findSlotAt(int index) {
+        if (factory.getIndexingMode() == IndexingMode.DENSE) {
+            var indexLiteral = ResourceFactory.createTypedLiteral(Integer.toString(index), XSDDatatype.XSDnonNegativeInteger);
+            var candidates = listIndividual.getModel().listSubjectsWithProperty(getIndexProperty(), indexLiteral);
+            try {
+                while (candidates.hasNext()) {
+                    var candidate = candidates.next();
+                    if (candidate.hasProperty(getOrderedListProperty(), listIndividual)) {
+                        var slot = oc.transformIntoIndividual(candidate);
+                        if (slot.isPresent()) {
+                            return slot.get();
+                        }
+                    }
+                }
+            } finally {
+                candidates.close();
             }
-            var nextNode = currSlot.getPropertyValue(getNextProperty());
-            if (nextNode != null && nextNode.canAs(Individual.class)) {
-                currSlot = nextNode.as(Individual.class);
-            } else {
-                currSlot = null;
+        }
+        return walkToSlot(index);
+    }
+
+    /**
+     * Walks to the slot at the given position, starting from whichever known slot is closest: the head, the last slot
+     * (if it is known, see {@link #findTail()}), or the slot that was resolved last. From the last slot, the walk
+     * follows <code>olo:previous</code>.
+     */
+    private Individual walkToSlot(int index) {
+        var start = new SlotPosition(getHead().orElse(null), 0);
+        var lastResolved = lastResolvedSlot;
+        if (lastResolved != null && Math.abs(index - lastResolved.index) < index) {
+            start = lastResolved;
+        }
+        var lastIndex = size() - 1;
+        if (lastIndex - index < Math.abs(index - start.index)) {
+            var lastSlot = findTail();
+            if (lastSlot.isPresent()) {
+                start = new SlotPosition(lastSlot.get(), lastIndex);
             }
         }
-        return individuals;
+
+        var currSlot = start.slot;
+        var position = start.index;
+        while (currSlot != null && position < index) {
+            currSlot = getNextSlot(currSlot);
+            position++;
+        }
+        while (currSlot != null && position > index) {
+            currSlot = getPreviousSlot(currSlot);
+            position--;
+        }
+        if (currSlot != null) {
+            lastResolvedSlot = new SlotPosition(currSlot, index);
+        }
+        return currSlot;
+    }
+
+    private Individual getPreviousSlot(Individual slot) {
+        var previousNode = slot.getPropertyValue(getPreviousProperty());
+        if (previousNode != null && previousNode.canAs(Individual.class)) {
+            return previousNode.as(Individual.class);
+        }
+        return null;
+    }
+
+    private Individual getNextSlot(Individual slot) {
+        var nextNode = slot.getPropertyValue(getNextProperty());
+        if (nextNode != null && nextNode.canAs(Individual.class)) {
+            return nextNode.as(Individual.class);
+        }
+        return null;
     }
 
     private Optional<Individual> extractItemOutOfSlot(Individual slot) {
@@ -210,32 +646,7 @@ public class OrderedOntologyList implements List<Individual> {
             length = 0;
         }
         oc.setPropertyToIndividual(listIndividual, getLengthProperty(), length, XSD.nonNegativeInteger.toString());
-    }
-
-    private Individual getNext(Individual individual) {
-        if (individual == null) {
-            return null;
-        }
-        return getIndividualFromProperty(getNextProperty(), individual);
-    }
-
-    private Individual getPrevious(Individual individual) {
-        if (individual == null) {
-            return null;
-        }
-        return getIndividualFromProperty(getPreviousProperty(), individual);
-    }
-
-    private Individual getIndividualFromProperty(OntProperty property, Individual individual) {
-        if (property == null) {
-            return null;
-        }
-        var propertyNode = individual.getPropertyValue(property);
-        if (propertyNode != null && propertyNode.canAs(Individual.class)) {
-            return propertyNode.as(Individual.class);
-        } else {
-            return null;
-        }
+        this.length = length;
     }
 
     private void setNext(Individual prev, Individual next) {
@@ -252,9 +663,17 @@ public class OrderedOntologyList implements List<Individual> {
         next.setPropertyValue(getPreviousProperty(), prev);
     }
 
+    /**
+     * Returns the length of the list. The length is cached and kept up to date by every mutation of this instance; it
+     * is only read from the ontology again if the list was changed from outside of this instance.
+     */
     @Override
     public int size() {
-        return oc.getPropertyIntValue(listIndividual, getLengthProperty()).orElse(0);
+        validateCache();
+        if (length < 0) {
+            length = oc.getPropertyIntValue(listIndividual, getLengthProperty()).orElse(0);
+        }
+        return length;
     }
 
     @Override
@@ -262,135 +681,340 @@ public class OrderedOntologyList implements List<Individual> {
         return size() == 0;
     }
 
+    /**
+     * Appends the given individual to the end of the list. The new slot is linked directly after the last slot, see
+     * {@link #addAll(Collection)}.
+     */
     @Override
     public boolean add(Individual individual) {
-        add(size(), individual);
+        oc.runInWriteScope(() -> append(List.of(individual)));
         return true;
     }
 
+    /**
+     * Inserts the given individual at the given index, see {@link #addAll(int, Collection)}. The index is checked
+     * within the write scope, so the list cannot shrink between the check and the insertion.
+     */
     @Override
     public void add(int index, Individual individual) {
+        oc.runInWriteScope(() -> {
+            checkInsertionIndex(index);
+            splice(index, List.of(individual));
+        });
+    }
+
+    private void checkInsertionIndex(int index) {
         if (index > size() || index < 0) {
             throw new IndexOutOfBoundsException();
         }
-        // create slot
-        var slotName = getSlotName();
-        var newSlot = oc.addIndividualToClass(slotName, getSlotClass());
-        oc.setPropertyToIndividual(newSlot, getOrderedListProperty(), listIndividual);
-        oc.setPropertyToIndividual(newSlot, getItemProperty(), individual);
-        oc.setPropertyToIndividual(newSlot, getIndexProperty(), index, XSD.positiveInteger.getURI());
+    }
 
-        Individual prev = null;
-        var curr = getHead().orElse(null);
-        var i = 0;
-        while (i < index && curr != null) {
-            prev = curr;
-            curr = getNext(curr);
-            i++;
+    /**
+     * Appends the given individuals to the end of the list. If the last slot is known (see
+     * {@link OntologyInterface#setListTailPersistence(boolean)}), the new slots are linked directly after it without
+     * walking or caching the list.
+     */
+    @Override
+    public boolean addAll(Collection<? extends Individual> individuals) {
+        if (Objects.isNull(individuals)) {
+            return false;
         }
-        if (i < index) {
-            throw new IllegalStateException("Could not traverse list far enough although the list should contain enough elements.");
+        if (!individuals.isEmpty()) {
+            oc.runInWriteScope(() -> append(individuals));
         }
+        return true;
+    }
 
-        // add slot to list
-        if (prev != null) {
-            setNext(prev, newSlot);
-            setPrevious(prev, newSlot);
-        } else {
-            setHead(newSlot);
+    /**
+     * Fills this (empty) list with the given individuals. All statements of the new slots are created up front and
+     * added to the ontology in one batch.
+     */
+    private void fill(List<? extends Individual> individuals) {
+        if (individuals.isEmpty() || !listIndividual.isURIResource()) {
+            addAll(individuals);
+            return;
         }
+        var lean = factory.isLeanSlots();
+        var sparse = factory.getIndexingMode() == IndexingMode.SPARSE;
+        var step = sparse ? SPARSE_INDEX_GAP : 1;
+        var index = -1L;
 
-        if (curr != null) {
-            setNext(newSlot, curr);
-            setPrevious(newSlot, curr);
+        List<Statement> statements = new ArrayList<>(individuals.size() * 8);
+        Resource previousSlot = null;
+        for (var individual : individuals) {
+            var slot = ResourceFactory.createResource(createSlotIri());
+            index += step;
+            statements.add(ResourceFactory.createStatement(slot, RDF.type, getSlotClass()));
+            if (!lean) {
+                statements.add(ResourceFactory.createStatement(slot, RDFS.label, ResourceFactory.createStringLiteral(getSlotName())));
+            }
+            statements.add(ResourceFactory.createStatement(slot, getOrderedListProperty(), listIndividual));
+            statements.add(ResourceFactory.createStatement(slot, getItemProperty(), individual));
+            statements.add(ResourceFactory.createStatement(slot, getIndexProperty(),
+                    ResourceFactory.createTypedLiteral(Long.toString(index), XSDDatatype.XSDnonNegativeInteger)));
+            if (previousSlot == null) {
+                statements.add(ResourceFactory.createStatement(listIndividual, getSlotProperty(), slot));
+            } else {
+                statements.add(ResourceFactory.createStatement(previousSlot, getNextProperty(), slot));
+                statements.add(ResourceFactory.createStatement(slot, getPreviousProperty(), previousSlot));
+            }
+            previousSlot = slot;
         }
+        oc.addStatements(statements);
 
-        updateList(curr, i);
-        setLength(size() + 1);
+        setLength(individuals.size());
+        setTail(oc.getIndividualByIri(previousSlot.getURI()).orElseThrow());
+        slots = null;
+        markCacheCurrent();
     }
 
-    @Override
-    public boolean addAll(Collection<? extends Individual> individuals) {
-        if (Objects.isNull(individuals)) {
-            return false;
+    private void append(Collection<? extends Individual> individuals) {
+        validateCache();
+        if (slots != null) {
+            splice(slots.size(), individuals);
+            return;
         }
-        var startSize = size();
-        var index = startSize - 1;
-        Individual lastSlot = null;
-        if (index >= 0) {
-            lastSlot = getSlot(index);
+        var currentSize = size();
+        var lastSlot = currentSize == 0 ? Optional.<Individual> empty() : findTail();
+        if (currentSize > 0 && lastSlot.isEmpty()) {
+            splice(currentSize, individuals);
+            return;
         }
 
-        for (var individual : individuals) {
-            index++;
-            var slotName = getSlotName();
-            var newSlot = oc.addIndividualToClass(slotName, getSlotClass());
-            oc.setPropertyToIndividual(newSlot, getOrderedListProperty(), listIndividual);
-            oc.setPropertyToIndividual(newSlot, getItemProperty(), individual);
-            oc.setPropertyToIndividual(newSlot, getIndexProperty(), XSD.positiveInteger.getURI());
-
-            if (index == 0) {
-                setHead(newSlot);
-            } else {
-                setNext(lastSlot, newSlot);
-                setPrevious(lastSlot, newSlot);
-            }
-            lastSlot = newSlot;
+        var newSlots = createSlotChain(individuals);
+        var firstNewSlot = newSlots.get(0);
+        if (lastSlot.isPresent()) {
+            setNext(lastSlot.get(), firstNewSlot);
+            setPrevious(lastSlot.get(), firstNewSlot);
+        } else {
+            setHead(firstNewSlot);
         }
 
-        setLength(index + 1);
+        var sparse = factory.getIndexingMode() == IndexingMode.SPARSE;
+        long index = sparse ? lastSlot.map(this::getSlotIndex).orElse(-1L) : currentSize - 1L;
+        if (sparse && lastSlot.isPresent() && index < 0) {
+            // the last slot has no valid index, so the indices have to be restored via the slots
+            splice(currentSize, individuals);
+            return;
+        }
+        var step = sparse ? SPARSE_INDEX_GAP : 1;
+        for (var newSlot : newSlots) {
+            index += step;
+            setSlotIndex(newSlot, index);
+        }
+        setLength(currentSize + newSlots.size());
+        setTail(newSlots.get(newSlots.size() - 1));
+        markCacheCurrent();
+    }
 
-        return true;
+    private Individual createSlot(Individual item) {
+        Individual newSlot;
+        if (factory.isLeanSlots() && listIndividual.isURIResource()) {
+            newSlot = oc.addIndividualByIri(createSlotIri(), getSlotClass());
+        } else {
+            newSlot = oc.addIndividualToClass(getSlotName(), getSlotClass());
+        }
+        oc.setPropertyToIndividual(newSlot, getOrderedListProperty(), listIndividual);
+        oc.setPropertyToIndividual(newSlot, getItemProperty(), item);
+        return newSlot;
     }
 
     private String getSlotName() {
-        return label + "_slot_" + slotIdCounter++;
+        return label + SLOT_SUFFIX + slotIdCounter++;
+    }
+
+    /**
+     * Returns an unused Iri for a slot of this list that is derived from the Iri of the list. The ids of a list start at
+     * its length, so after loading a list, usually the first candidate is already unused.
+     */
+    private String createSlotIri() {
+        var listIri = listIndividual.getURI();
+        var initialId = size();
+        String slotIri;
+        do {
+            slotIri = listIri + SLOT_SUFFIX + factory.nextSlotId(listIri, initialId);
+        } while (oc.getIndividualByIri(slotIri).isPresent());
+        return slotIri;
     }
 
+    /**
+     * Inserts the given individuals at the given index. The new slots are created as a chain first, then linked into
+     * the list at once, and the slots are numbered only once (see {@link IndexingMode}). All of this happens within a
+     * single write scope of the connector.
+     */
     @Override
     public boolean addAll(int index, Collection<? extends Individual> c) {
-        if (index > size() || index < 0) {
-            throw new IndexOutOfBoundsException();
+        return oc.callInWriteScope(() -> {
+            checkInsertionIndex(index);
+            if (c.isEmpty()) {
+                return false;
+            }
+            splice(index, c);
+            return true;
+        });
+    }
+
+    private void splice(int index, Collection<? extends Individual> individuals) {
+        var currentSlots = getSlots();
+        var prev = index > 0 ? currentSlots.get(index - 1) : null;
+        var next = index < currentSlots.size() ? currentSlots.get(index) : null;
+
+        var newSlots = createSlotChain(individuals);
+
+        // link the chain into the list
+        var firstNewSlot = newSlots.get(0);
+        var lastNewSlot = newSlots.get(newSlots.size() - 1);
+        if (prev != null) {
+            setNext(prev, firstNewSlot);
+            setPrevious(prev, firstNewSlot);
+        } else {
+            setHead(firstNewSlot);
         }
-        var currIndex = index;
-        for (var individual : c) {
-            add(currIndex++, individual);
+        if (next != null) {
+            setNext(lastNewSlot, next);
+            setPrevious(lastNewSlot, next);
         }
-        return !c.isEmpty();
+
+        currentSlots.addAll(index, newSlots);
+        updateIndicesAfterInsertion(currentSlots, index, newSlots.size());
+        markCacheCurrent();
     }
 
+    /**
+     * Creates a slot for each of the given individuals and links the slots with each other.
+     */
+    private List<Individual> createSlotChain(Collection<? extends Individual> individuals) {
+        List<Individual> newSlots = new ArrayList<>(individuals.size());
+        Individual lastNewSlot = null;
+        for (var individual : individuals) {
+            var newSlot = createSlot(individual);
+            if (lastNewSlot != null) {
+                setNext(lastNewSlot, newSlot);
+                setPrevious(lastNewSlot, newSlot);
+            }
+            newSlots.add(newSlot);
+            lastNewSlot = newSlot;
+        }
+        return newSlots;
+    }
+
+    /**
+     * Checks whether the list contains the given individual. The check starts at the individual and looks at the slots
+     * that hold it, see {@link #findSlotsOfItem(Individual)}, so it does not walk the list.
+     */
     @Override
     public boolean contains(Object o) {
         if (o instanceof Individual individual) {
-            var slot = getSlotWhoseItemEquals(individual);
-            return slot.isPresent();
+            return !oc.callInReadScope(() -> findSlotsOfItem(individual)).isEmpty();
         }
         return false;
     }
 
-    private Optional<Individual> getSlotWhoseItemEquals(Individual individual) {
-        var headOpt = getHead();
-        if (headOpt.isEmpty()) {
-            return Optional.empty();
+    /**
+     * Returns the slots of this list that hold the given individual. The slots are found via the
+     * <code>olo:item</code> statements that point to the individual and are filtered by their
+     * <code>olo:ordered_list</code>. Therefore, the cost depends on how often the individual is used in lists and not on
+     * the length of this list.
+     */
+    private List<Individual> findSlotsOfItem(Individual item) {
+        List<Individual> itemSlots = new ArrayList<>();
+        for (var subject : oc.getSubjectsOf(getItemProperty(), item)) {
+            if (subject.hasProperty(getOrderedListProperty(), listIndividual)) {
+                oc.transformIntoIndividual(subject).ifPresent(itemSlots::add);
+            }
         }
-        var currSlot = headOpt.get();
-        while (currSlot != null) {
-            var curr = extractItemOutOfSlot(currSlot);
-            if (curr.isPresent()) {
-                var currIndividual = curr.get();
-                if (currIndividual.equals(individual)) {
-                    return Optional.of(currSlot);
+        return itemSlots;
+    }
+
+    /**
+     * Returns the slot that holds the given individual and comes first (or last) in the list. The slots are ordered by
+     * their <code>olo:index</code>, which holds in both {@link IndexingMode}s. If one of the slots has no valid index
+     * (e.g., in lists that were written by older versions), the slots are ordered by their position in the list
+     * instead.
+     */
+    private Optional<Individual> findSlotOfItem(Individual item, boolean last) {
+        return oc.callInReadScope(() -> {
+            var itemSlots = findSlotsOfItem(item);
+            Individual foundSlot = null;
+            var foundIndex = 0L;
+            for (var slot : itemSlots) {
+                var slotIndex = getSlotIndex(slot);
+                if (slotIndex < 0) {
+                    return findSlotOfItemByPosition(itemSlots, last);
+                }
+                if (foundSlot == null || (last ? slotIndex > foundIndex : slotIndex < foundIndex)) {
+                    foundSlot = slot;
+                    foundIndex = slotIndex;
                 }
             }
+            return Optional.ofNullable(foundSlot);
+        });
+    }
 
-            currSlot = getNext(currSlot);
+    private Optional<Individual> findSlotOfItemByPosition(List<Individual> itemSlots, boolean last) {
+        var currentSlots = getSlots();
+        Individual foundSlot = null;
+        var foundPosition = 0;
+        for (var slot : itemSlots) {
+            var position = currentSlots.indexOf(slot);
+            if (position >= 0 && (foundSlot == null || (last ? position > foundPosition : position < foundPosition))) {
+                foundSlot = slot;
+                foundPosition = position;
+            }
         }
-        return Optional.empty();
+        return Optional.ofNullable(foundSlot);
+    }
+
+    /**
+     * Returns the position of the given slot. In {@link IndexingMode#DENSE}, this is the <code>olo:index</code> of the
+     * slot (cross-checked with the cached slots, if present); otherwise, the slot is looked up in the cached slots.
+     */
+    private int getPosition(Individual slot) {
+        if (factory.getIndexingMode() == IndexingMode.DENSE) {
+            var slotIndex = oc.callInReadScope(() -> getSlotIndex(slot));
+            if (slotIndex >= 0 && slotIndex < size() && (slots == null || slot.equals(slots.get((int) slotIndex)))) {
+                return (int) slotIndex;
+            }
+        }
+        return getSlots().indexOf(slot);
     }
 
+    /**
+     * Returns an iterator that lazily walks the slots of the list, so only the slots up to the last requested element
+     * are read. The iterator fails fast with a {@link ConcurrentModificationException} if the list is modified while
+     * iterating.
+     */
     @Override
     public Iterator<Individual> iterator() {
-        return toList().iterator();
+        return new ElementIterator();
+    }
+
+    /**
+     * Performs the given action for each element of the list. The whole traversal runs within one read scope, so the
+     * action must not modify the ontology.
+     */
+    @Override
+    public void forEach(Consumer<? super Individual> action) {
+        new ElementIterator().forEachRemaining(action);
+    }
+
+    /**
+     * Returns a spliterator that lazily walks the slots of the list, see {@link #iterator()}. Bulk traversal (e.g., the
+     * terminal operation of a {@link #stream()}) runs within one read scope, so it must not modify the ontology.
+     */
+    @Override
+    public Spliterator<Individual> spliterator() {
+        return Spliterators.spliteratorUnknownSize(new ElementIterator(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Returns a lazy {@link Stream} over the elements of the list. Only the slots up to the last element that is needed
+     * by the stream are read, so short-circuiting operations like <code>findFirst</code> or <code>limit</code> terminate
+     * early.
+     */
+    @Override
+    public Stream<Individual> stream() {
+        return StreamSupport.stream(spliterator(), false);
     }
 
     @Override
@@ -403,30 +1027,33 @@ public class OrderedOntologyList implements List<Individual> {
         return toList().toArray(a);
     }
 
+    /**
+     * Removes the first occurrence of the given individual. The slot is found via the individual, see
+     * {@link #contains(Object)}.
+     */
     @Override
     public boolean remove(Object o) {
-        if (!contains(o)) {
-            return false;
-        }
         if (o instanceof Individual individual) {
-            var slot = getSlotWhoseItemEquals(individual);
-            if (slot.isPresent()) {
-                return removeSlot(slot.get());
-            }
+            return oc.callInWriteScope(() -> findSlotOfItem(individual, false).map(this::removeSlot).orElse(false));
         }
         return false;
     }
 
+    /**
+     * Unlinks and removes the given slot. Callers have to hold the write scope, so the list is never observed in a
+     * partially unlinked state.
+     */
     private boolean removeSlot(Individual individual) {
         if (individual == null) {
             return false;
         }
-        var removedIndex = oc.getPropertyIntValue(individual, getIndexProperty()).orElse(-1);
-        var prevNode = oc.getPropertyValue(individual, getPreviousProperty());
-        var nextNode = oc.getPropertyValue(individual, getNextProperty());
-
-        var prev = oc.transformIntoIndividual(prevNode);
-        var next = oc.transformIntoIndividual(nextNode);
+        var currentSlots = getSlots();
+        var removedIndex = currentSlots.indexOf(individual);
+        if (removedIndex < 0) {
+            return false;
+        }
+        var prev = Optional.ofNullable(removedIndex > 0 ? currentSlots.get(removedIndex - 1) : null);
+        var next = Optional.ofNullable(removedIndex + 1 < currentSlots.size() ? currentSlots.get(removedIndex + 1) : null);
 
         // set the next of previous node
         if (prev.isPresent()) {
@@ -441,30 +1068,133 @@ public class OrderedOntologyList implements List<Individual> {
         if (next.isPresent()) {
             if (prev.isEmpty()) {
                 oc.removeAllOfProperty(next.get(), getPreviousProperty());
+                setHead(next.get());
             } else {
                 oc.setPropertyToIndividual(next.get(), getPreviousProperty(), prev.get());
             }
         }
 
-        updateList(next.orElse(null), removedIndex);
+        currentSlots.remove(removedIndex);
         oc.removeIndividual(individual);
+        updateIndicesAfterRemoval(currentSlots, removedIndex);
+        markCacheCurrent();
         return true;
     }
 
-    private void setSlotIndex(Individual slot, int index) {
+    private void setSlotIndex(Individual slot, long index) {
         oc.setPropertyToIndividual(slot, getIndexProperty(), index, XSD.nonNegativeInteger.toString());
     }
 
-    private void updateList(Individual start, int startIndex) {
-        var index = startIndex;
-        var curr = start;
-        while (curr != null) {
-            setSlotIndex(curr, index);
+    /**
+     * Returns the <code>olo:index</code> of the given slot or -1 if the slot has no valid index. Older versions wrote
+     * the datatype Iri as plain string instead of the index, so such values are treated as unknown.
+     */
+    private long getSlotIndex(Individual slot) {
+        var indexNode = slot.getPropertyValue(getIndexProperty());
+        if (indexNode == null || !indexNode.isLiteral()) {
+            return -1;
+        }
+        try {
+            return Math.max(indexNode.asLiteral().getLong(), -1);
+        } catch (DatatypeFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Numbers the given number of new slots that were inserted into the given (cached) slots at the given position and
+     * updates the length and the tail of the list.
+     */
+    private void updateIndicesAfterInsertion(List<Individual> currentSlots, int from, int count) {
+        if (factory.getIndexingMode() == IndexingMode.SPARSE) {
+            assignSparseIndices(currentSlots, from, count);
+        } else {
+            renumber(currentSlots, from);
+        }
+        setLengthAndTail(currentSlots);
+    }
+
+    /**
+     * Updates the indices of the given (cached) slots after slots were removed at the given position and updates the
+     * length and the tail of the list. Sparse indices stay ordered when slots are removed, so they are not changed.
+     */
+    private void updateIndicesAfterRemoval(List<Individual> currentSlots, int from) {
+        if (factory.getIndexingMode() == IndexingMode.DENSE) {
+            renumber(currentSlots, from);
+        }
+        setLengthAndTail(currentSlots);
+    }
+
+    private void setLengthAndTail(List<Individual> currentSlots) {
+        setLength(currentSlots.size());
+        setTail(currentSlots.isEmpty() ? null : currentSlots.get(currentSlots.size() - 1));
+    }
+
+    private void renumber(List<Individual> currentSlots, int from) {
+        for (var index = from; index < currentSlots.size(); index++) {
+            setSlotIndex(currentSlots.get(index), index);
+        }
+    }
+
+    /**
+     * Places the new slots evenly into the gap between the indices of their neighbours. If the gap is too small, the
+     * new slots are numbered with {@link #SPARSE_INDEX_GAP} and the following slots are shifted only as far as needed
+     * to restore the order. If the previous slot has no valid index (e.g., in lists that were written by older
+     * versions), all slots are renumbered from the head instead.
+     */
+    private void assignSparseIndices(List<Individual> currentSlots, int from, int count) {
+        var lower = from > 0 ? getSlotIndex(currentSlots.get(from - 1)) : -1;
+        if (from > 0 && lower < 0) {
+            renumberSparse(currentSlots, 0, -1, from + count);
+            return;
+        }
+        var end = from + count;
+        if (end < currentSlots.size()) {
+            var upper = getSlotIndex(currentSlots.get(end));
+            var step = (upper - lower) / (count + 1);
+            if (step > 0) {
+                for (var offset = 0; offset < count; offset++) {
+                    setSlotIndex(currentSlots.get(from + offset), lower + step * (offset + 1));
+                }
+                return;
+            }
+        }
+
+        renumberSparse(currentSlots, from, lower, end);
+    }
 
-            index++;
-            curr = getNext(curr);
+    /**
+     * Numbers the slots from the given position on with {@link #SPARSE_INDEX_GAP}, starting after the given index. Once
+     * the given end is reached, the renumbering stops at the first slot whose (valid) index is already in order.
+     */
+    private void renumberSparse(List<Individual> currentSlots, int from, long lower, int end) {
+        var index = lower;
+        for (var position = from; position < currentSlots.size(); position++) {
+            var slot = currentSlots.get(position);
+            if (position >= end && getSlotIndex(slot) > index) {
+                break;
+            }
+            index += SPARSE_INDEX_GAP;
+            setSlotIndex(slot, index);
         }
-        setLength(index);
+    }
+
+    /**
+     * Restores dense indices (0 to n-1) for the slots of this list within one write scope, e.g., before exporting a
+     * list that was built in {@link IndexingMode#SPARSE}. Slots that already have the right index are not changed;
+     * slots without a valid index get their position as index.
+     */
+    public void compactIndices() {
+        oc.runInWriteScope(() -> {
+            var currentSlots = getSlots();
+            for (var index = 0; index < currentSlots.size(); index++) {
+                var slot = currentSlots.get(index);
+                if (getSlotIndex(slot) != index) {
+                    setSlotIndex(slot, index);
+                }
+            }
+            markCacheCurrent();
+        });
     }
 
     @Override
@@ -477,156 +1207,195 @@ public class OrderedOntologyList implements List<Individual> {
         return true;
     }
 
+    /**
+     * Removes all occurrences of the given individuals from the list in a single pass.
+     */
     @Override
     public boolean removeAll(Collection<?> c) {
-        var status = true;
-        for (var item : c) {
-            var successful = remove(item);
-            status &= successful;
+        Objects.requireNonNull(c);
+        if (c.isEmpty()) {
+            return false;
         }
-        return status;
+        Set<?> targets = new HashSet<>(c);
+        return removeSlotsIf(slot -> targets.contains(extractItemOutOfSlot(slot).orElse(null)));
     }
 
+    /**
+     * Removes all elements from the list that are not contained in the given collection in a single pass.
+     */
     @Override
     public boolean retainAll(Collection<?> c) {
-        var changed = false;
-        if (c == null || c.isEmpty()) {
-            return changed;
-        }
-
-        var curr = getLastSlot().orElse(null);
-        while (curr != null) {
-            var item = extractItemOutOfSlot(curr);
-            if (c.contains(item)) {
-                curr = getNext(curr);
-            } else {
-                var toDelete = curr;
-                curr = getPrevious(curr);
-                removeSlot(toDelete);
-                changed = true;
-            }
-        }
+        Objects.requireNonNull(c);
+        Set<?> retained = new HashSet<>(c);
+        return removeSlotsIf(slot -> !retained.contains(extractItemOutOfSlot(slot).orElse(null)));
+    }
 
-        return changed;
+    /**
+     * Removes all elements that match the given filter in a single pass, see {@link #removeAll(Collection)}.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super Individual> filter) {
+        Objects.requireNonNull(filter);
+        return removeSlotsIf(slot -> extractItemOutOfSlot(slot).filter(filter).isPresent());
     }
 
     @Override
     public void clear() {
-        var lastSlotOpt = getLastSlot();
-        if (lastSlotOpt.isEmpty()) {
-            return;
-        }
-        var currSlot = lastSlotOpt.get();
-        while (currSlot != null) {
-            var prev = getPrevious(currSlot);
-            removeSlot(currSlot);
-            currSlot = prev;
-        }
+        removeSlotsIf(slot -> true);
+    }
+
+    /**
+     * Removes all slots that match the given filter within one write scope. The slots are traversed once, the
+     * remaining slots are relinked where their neighbours changed, and the slots after the first removed one are
+     * renumbered once.
+     *
+     * @return <code>true</code> if at least one slot was removed
+     */
+    private boolean removeSlotsIf(Predicate<Individual> filter) {
+        return oc.callInWriteScope(() -> {
+            var currentSlots = getSlots();
+            List<Individual> removedSlots = new ArrayList<>();
+            List<Individual> keptSlots = new ArrayList<>(currentSlots.size());
+            var keptOriginalIndices = new int[currentSlots.size()];
+            for (var index = 0; index < currentSlots.size(); index++) {
+                var slot = currentSlots.get(index);
+                if (filter.test(slot)) {
+                    removedSlots.add(slot);
+                } else {
+                    keptOriginalIndices[keptSlots.size()] = index;
+                    keptSlots.add(slot);
+                }
+            }
+            if (removedSlots.isEmpty()) {
+                return false;
+            }
+
+            // removing the slots also removes all links to them, including the head of the list
+            oc.removeIndividuals(removedSlots);
+
+            var firstChangedIndex = -1;
+            for (var index = 0; index < keptSlots.size(); index++) {
+                var slot = keptSlots.get(index);
+                var originalIndex = keptOriginalIndices[index];
+                if (originalIndex == index) {
+                    continue;
+                }
+                if (firstChangedIndex < 0) {
+                    firstChangedIndex = index;
+                }
+                if (index == 0) {
+                    setHead(slot);
+                } else if (keptOriginalIndices[index - 1] != originalIndex - 1) {
+                    var prev = keptSlots.get(index - 1);
+                    setNext(prev, slot);
+                    setPrevious(prev, slot);
+                }
+            }
+
+            currentSlots.clear();
+            currentSlots.addAll(keptSlots);
+            updateIndicesAfterRemoval(currentSlots, firstChangedIndex < 0 ? currentSlots.size() : firstChangedIndex);
+            markCacheCurrent();
+            return true;
+        });
     }
 
     @Override
     public Individual get(int index) {
-        if (index > size()) {
-            throw new IndexOutOfBoundsException();
-        }
-        var slot = getSlot(index);
-        return extractItemOutOfSlot(slot).orElseThrow();
+        return oc.callInReadScope(() -> extractItemOutOfSlot(getSlot(index)).orElseThrow());
     }
 
+    /**
+     * Returns the slot at the given position. If the slots are cached, this is O(1). Otherwise, the slot is resolved
+     * without caching all slots, see {@link #findSlotAt(int)}.
+     */
     private Individual getSlot(int index) {
-        if (index > size() || index < 0) {
+        if (index >= size() || index < 0) {
             throw new IndexOutOfBoundsException();
         }
-        var curr = getHead().orElse(null);
-        var i = 0;
-        while (i < index && curr != null) {
-            curr = getNext(curr);
-            i++;
-        }
-        if (i < index) {
-            throw new IllegalStateException("Could not traverse list far enough although the list should contain enough elements.");
+        if (slots != null) {
+            return slots.get(index);
         }
-        return curr;
+        var slot = findSlotAt(index);
+        return slot != null ? slot : getSlots().get(index);
     }
 
     @Override
     public Individual set(int index, Individual element) {
-
-        var slot = getSlot(index);
-        if (slot == null) {
-            return null;
-        }
-
-        var oldItemPropertyValue = oc.getPropertyValue(slot, getItemProperty());
-        var oldItemIndividual = oc.transformIntoIndividual(oldItemPropertyValue);
-
-        oc.setPropertyToIndividual(slot, getItemProperty(), element);
-        return oldItemIndividual.orElse(null);
+        return oc.callInWriteScope(() -> {
+            var slot = getSlot(index);
+            var oldItemIndividual = extractItemOutOfSlot(slot);
+            oc.setPropertyToIndividual(slot, getItemProperty(), element);
+            markCacheCurrent();
+            return oldItemIndividual.orElse(null);
+        });
     }
 
     @Override
     public Individual remove(int index) {
-        var slot = getSlot(index);
-        var individual = extractItemOutOfSlot(slot);
-        removeSlot(slot);
-        return individual.orElse(null);
+        return oc.callInWriteScope(() -> {
+            var slot = getSlot(index);
+            var individual = extractItemOutOfSlot(slot);
+            removeSlot(slot);
+            return individual.orElse(null);
+        });
     }
 
+    /**
+     * Returns the index of the first occurrence of the given individual. The slot is found via the individual, see
+     * {@link #contains(Object)}, and its position is taken from its <code>olo:index</code> in
+     * {@link IndexingMode#DENSE}.
+     */
     @Override
     public int indexOf(Object o) {
         if (o instanceof Individual individual) {
-            var slotOpt = getSlotWhoseItemEquals(individual);
-            if (slotOpt.isPresent()) {
-                var slot = slotOpt.get();
-                return oc.getPropertyIntValue(slot, getIndexProperty()).orElse(-1);
-            }
+            return findSlotOfItem(individual, false).map(this::getPosition).orElse(-1);
         }
         return -1;
     }
 
+    /**
+     * Returns the index of the last occurrence of the given individual, see {@link #indexOf(Object)}.
+     */
     @Override
     public int lastIndexOf(Object o) {
-        var index = -1;
-        if (!(o instanceof Individual)) {
-            return index;
-        }
-        var individual = (Individual) o;
-        var headOpt = getHead();
-        if (headOpt.isEmpty()) {
-            return index;
-        }
-
-        var currSlot = headOpt.get();
-        var counter = 0;
-        while (currSlot != null) {
-            var curr = extractItemOutOfSlot(currSlot);
-            if (curr.isPresent()) {
-                var currIndividual = curr.get();
-                if (currIndividual.equals(individual)) {
-                    index = counter;
-                }
-            }
-
-            currSlot = getNext(currSlot);
-            counter++;
+        if (o instanceof Individual individual) {
+            return findSlotOfItem(individual, true).map(this::getPosition).orElse(-1);
         }
-
-        return index;
+        return -1;
     }
 
     @Override
     public ListIterator<Individual> listIterator() {
-        return toList().listIterator();
+        return listIterator(0);
     }
 
+    /**
+     * Returns a list iterator that reads the elements lazily via the cached slots. Modifications through the iterator
+     * are applied to the list. The iterator fails fast with a {@link ConcurrentModificationException} if the list is
+     * modified otherwise while iterating.
+     */
     @Override
     public ListIterator<Individual> listIterator(int index) {
-        return toList().listIterator(index);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new ElementListIterator(index);
     }
 
+    /**
+     * Returns a view of the portion of this list between the given indices. The view resolves the from-slot once and
+     * only reads the slots within the range, so it does not read the whole list (see {@link #findSlotAt(int)}).
+     * Elements can be read, set, added and removed through the view; these changes are applied to this list. Clearing
+     * the view removes its range in a single pass. The view fails fast with a {@link ConcurrentModificationException}
+     * if the list is modified otherwise.
+     */
     @Override
     public List<Individual> subList(int fromIndex, int toIndex) {
-        throw new NotImplementedException("The OrderedOntologyList does not support subLists.");
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new SubList(fromIndex, toIndex);
     }
 
     @Override
@@ -634,36 +1403,332 @@ public class OrderedOntologyList implements List<Individual> {
         return String.format("%s (%s)", listIndividual.toString(), listIndividual.getLabel(null));
     }
 
+    /**
+     * Iterator that walks the slots of the list along <code>olo:next</code> on demand. Each step reads within a read
+     * scope; {@link #forEachRemaining(Consumer)} reads all remaining elements within one read scope. The iterator only
+     * fails for changes to this list, not for changes to other lists.
+     */
+    private class ElementIterator implements Iterator<Individual> {
+        private long expectedVersion = getListVersion();
+        private Individual nextSlot;
+        private Individual nextItemSlot;
+        private Individual nextItem;
+        private Individual lastReturnedSlot;
+        private boolean started = false;
+
+        @Override
+        public boolean hasNext() {
+            checkForComodification();
+            if (nextItem == null) {
+                oc.callInReadScope(this::advance);
+            }
+            return nextItem != null;
+        }
+
+        @Override
+        public Individual next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var item = nextItem;
+            lastReturnedSlot = nextItemSlot;
+            nextItem = null;
+            return item;
+        }
+
+        /**
+         * Removes the slot of the element that was returned last. The walk continues with the slot after it.
+         */
+        @Override
+        public void remove() {
+            if (lastReturnedSlot == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            var removedSlot = lastReturnedSlot;
+            oc.runInWriteScope(() -> removeSlot(removedSlot));
+            lastReturnedSlot = null;
+            expectedVersion = getListVersion();
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Individual> action) {
+            Objects.requireNonNull(action);
+            oc.callInReadScope(() -> {
+                while (hasNext()) {
+                    action.accept(next());
+                }
+                return null;
+            });
+        }
+
+        private Void advance() {
+            if (!started) {
+                nextSlot = getHead().orElse(null);
+                started = true;
+            }
+            while (nextItem == null && nextSlot != null) {
+                nextItem = extractItemOutOfSlot(nextSlot).orElse(null);
+                nextItemSlot = nextSlot;
+                nextSlot = getNextSlot(nextSlot);
+            }
+            return null;
+        }
+
+        private void checkForComodification() {
+            if (getListVersion() != expectedVersion) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * List iterator that reads the elements via the cached slots and applies modifications to the list.
+     */
+    private class ElementListIterator implements ListIterator<Individual> {
+        private long expectedVersion = getListVersion();
+        private int cursor;
+        private int lastReturned = -1;
+
+        private ElementListIterator(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        @Override
+        public Individual next() {
+            checkForComodification();
+            if (cursor >= size()) {
+                throw new NoSuchElementException();
+            }
+            var item = get(cursor);
+            lastReturned = cursor;
+            cursor++;
+            return item;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public Individual previous() {
+            checkForComodification();
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            cursor--;
+            lastReturned = cursor;
+            return get(cursor);
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            OrderedOntologyList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedVersion = getListVersion();
+        }
+
+        @Override
+        public void set(Individual individual) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            OrderedOntologyList.this.set(lastReturned, individual);
+            expectedVersion = getListVersion();
+        }
+
+        @Override
+        public void add(Individual individual) {
+            checkForComodification();
+            OrderedOntologyList.this.add(cursor, individual);
+            cursor++;
+            lastReturned = -1;
+            expectedVersion = getListVersion();
+        }
+
+        private void checkForComodification() {
+            if (getListVersion() != expectedVersion) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * View on a range of the list, see {@link OrderedOntologyList#subList(int, int)}. The slots of the range are read
+     * on first access and kept until the list is changed through the view. Changes to the list that are not made
+     * through the view invalidate it; changes to other lists do not.
+     */
+    private class SubList extends AbstractList<Individual> {
+        private final int offset;
+        private int size;
+        private long expectedVersion = getListVersion();
+        private List<Individual> rangeSlots;
+
+        private SubList(int fromIndex, int toIndex) {
+            offset = fromIndex;
+            size = toIndex - fromIndex;
+        }
+
+        @Override
+        public Individual get(int index) {
+            checkIndex(index, size);
+            checkForComodification();
+            return oc.callInReadScope(() -> extractItemOutOfSlot(getRangeSlots().get(index)).orElseThrow());
+        }
+
+        @Override
+        public Individual set(int index, Individual individual) {
+            checkIndex(index, size);
+            checkForComodification();
+            var oldIndividual = oc.callInWriteScope(() -> {
+                validateCache();
+                var slot = getRangeSlots().get(index);
+                var oldItemIndividual = extractItemOutOfSlot(slot);
+                oc.setPropertyToIndividual(slot, getItemProperty(), individual);
+                markCacheCurrent();
+                return oldItemIndividual.orElse(null);
+            });
+            expectedVersion = getListVersion();
+            return oldIndividual;
+        }
+
+        @Override
+        public void add(int index, Individual individual) {
+            checkIndex(index, size + 1);
+            checkForComodification();
+            OrderedOntologyList.this.add(offset + index, individual);
+            size++;
+            updateAfterStructuralChange();
+        }
+
+        @Override
+        public Individual remove(int index) {
+            checkIndex(index, size);
+            checkForComodification();
+            var removedIndividual = OrderedOntologyList.this.remove(offset + index);
+            size--;
+            updateAfterStructuralChange();
+            return removedIndividual;
+        }
+
+        /**
+         * Removes the slots of the given range in a single pass, see {@link OrderedOntologyList#removeAll(Collection)}.
+         * This is also used by {@link #clear()}.
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException();
+            }
+            checkForComodification();
+            if (fromIndex == toIndex) {
+                return;
+            }
+            oc.runInWriteScope(() -> {
+                Set<Individual> removedSlots = new HashSet<>(getRangeSlots().subList(fromIndex, toIndex));
+                removeSlotsIf(removedSlots::contains);
+            });
+            size -= toIndex - fromIndex;
+            updateAfterStructuralChange();
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        private List<Individual> getRangeSlots() {
+            if (rangeSlots == null) {
+                rangeSlots = collectSlots(offset, size);
+            }
+            return rangeSlots;
+        }
+
+        private void updateAfterStructuralChange() {
+            rangeSlots = null;
+            modCount++;
+            expectedVersion = getListVersion();
+        }
+
+        private void checkIndex(int index, int upperBound) {
+            if (index < 0 || index >= upperBound) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+
+        private void checkForComodification() {
+            if (getListVersion() != expectedVersion) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Slot together with its position in the list.
+     */
+    private static final class SlotPosition {
+        private final Individual slot;
+        private final int index;
+
+        private SlotPosition(Individual slot, int index) {
+            this.slot = slot;
+            this.index = index;
+        }
+    }
+
     private OntProperty getSlotProperty() {
-        return oc.getProperty(LIST_PROPERTY_SLOT, LIST_PREFIX).orElseThrow();
+        return vocabulary.getSlotProperty();
     }
 
     private OntProperty getItemProperty() {
-        return oc.getProperty(LIST_PROPERTY_ITEM, LIST_PREFIX).orElseThrow();
+        return vocabulary.getItemProperty();
     }
 
     private OntProperty getNextProperty() {
-        return oc.getProperty(LIST_PROPERTY_NEXT, LIST_PREFIX).orElseThrow();
+        return vocabulary.getNextProperty();
     }
 
     private OntProperty getPreviousProperty() {
-        return oc.getProperty(LIST_PROPERTY_PREVIOUS, LIST_PREFIX).orElseThrow();
+        return vocabulary.getPreviousProperty();
     }
 
     private OntProperty getLengthProperty() {
-        return oc.getProperty(LIST_PROPERTY_LENGTH, LIST_PREFIX).orElseThrow();
+        return vocabulary.getLengthProperty();
     }
 
     private OntProperty getIndexProperty() {
-        return oc.getProperty(LIST_PROPERTY_INDEX, LIST_PREFIX).orElseThrow();
+        return vocabulary.getIndexProperty();
     }
 
     private OntProperty getOrderedListProperty() {
-        return oc.getProperty(LIST_PROPERTY_ORDERED_LIST, LIST_PREFIX).orElseThrow();
+        return vocabulary.getOrderedListProperty();
     }
 
     private OntClass getSlotClass() {
-        return oc.getClass(LIST_SLOT_CLASS, LIST_PREFIX).orElseThrow();
+        return vocabulary.getSlotClass();
     }
 
 }
@@ -0,0 +1,49 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Result of an asynchronous save, see {@link OntologyInterface#saveAsync(String, org.apache.jena.riot.Lang)}.
+ *
+ * @author Jan Keim
+ *
+ */
+public final class SaveResult {
+    private final Path file;
+    private final long bytes;
+    private final Duration duration;
+
+    SaveResult(Path file, long bytes, Duration duration) {
+        this.file = file;
+        this.bytes = bytes;
+        this.duration = duration;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of bytes that were written to the file.
+     *
+     * @return the number of written bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns how long it took to save the ontology, from taking the snapshot until the file was written completely.
+     *
+     * @return the duration of the save
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return "SaveResult [file=" + file + ", bytes=" + bytes + ", duration=" + duration + "]";
+    }
+}
@@ -0,0 +1,65 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.List;
+import java.util.Map;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.compose.MultiUnion;
+import org.apache.jena.ontology.OntModelSpec;
+import org.apache.jena.ontology.impl.OntModelImpl;
+import org.apache.jena.rdf.model.Model;
+
+/**
+ * In-memory ontology model that can take snapshots of its base graph without copying its triples. Usually, the base
+ * graph is the plain graph. Only while snapshots are in use, a {@link CopyOnWriteGraph} is installed in its place that
+ * keeps the changes apart from the frozen graph. The first write scope after all snapshots were closed merges the
+ * changes and installs the plain graph again.
+ *
+ * @author Jan Keim
+ *
+ */
+final class SnapshotOntModel extends OntModelImpl {
+    // installed while snapshots are in use; only changed while holding the write lock
+    private CopyOnWriteGraph copyOnWriteGraph;
+
+    SnapshotOntModel(OntModelSpec spec, Model baseModel) {
+        super(spec, baseModel);
+    }
+
+    /**
+     * Takes a snapshot of the base graph. The caller has to hold the write lock and has to close the snapshot once it
+     * is no longer used.
+     *
+     * @param prefixes the prefixes of the snapshot
+     * @return read-only snapshot of the base graph
+     */
+    Graph snapshotBaseGraph(Map<String, String> prefixes) {
+        if (copyOnWriteGraph == null) {
+            copyOnWriteGraph = new CopyOnWriteGraph(getBaseGraph());
+            replaceBaseGraph(copyOnWriteGraph.getWrappedGraph(), copyOnWriteGraph);
+        }
+        return copyOnWriteGraph.snapshot(prefixes);
+    }
+
+    @Override
+    public void enterCriticalSection(boolean readLockRequested) {
+        super.enterCriticalSection(readLockRequested);
+        if (!readLockRequested && copyOnWriteGraph != null && copyOnWriteGraph.merge()) {
+            replaceBaseGraph(copyOnWriteGraph, copyOnWriteGraph.getWrappedGraph());
+            copyOnWriteGraph = null;
+        }
+    }
+
+    /**
+     * Replaces the base graph of the union graph, keeping the order of the sub graphs.
+     */
+    private void replaceBaseGraph(Graph oldBaseGraph, Graph newBaseGraph) {
+        var unionGraph = (MultiUnion) getGraph();
+        var subGraphs = List.copyOf(unionGraph.getSubGraphs());
+        unionGraph.removeGraph(oldBaseGraph);
+        subGraphs.forEach(unionGraph::removeGraph);
+        unionGraph.addGraph(newBaseGraph);
+        unionGraph.setBaseGraph(newBaseGraph);
+        subGraphs.forEach(unionGraph::addGraph);
+    }
+}
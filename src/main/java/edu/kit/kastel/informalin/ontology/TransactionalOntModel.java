@@ -0,0 +1,69 @@
+package edu.kit.kastel.informalin.ontology;
+
+import org.apache.jena.ontology.OntModelSpec;
+import org.apache.jena.ontology.impl.OntModelImpl;
+import org.apache.jena.query.ReadWrite;
+import org.apache.jena.query.TxnType;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.sparql.core.Transactional;
+
+/**
+ * Ontology model on top of a transactional store like TDB2 that maps the scopes of the model to transactions of the
+ * store. The outermost read scope of a thread runs in a read transaction, the outermost write scope in a write
+ * transaction that is committed when the scope is left. Nested scopes join the transaction of the outermost scope.
+ *
+ * Thus, every write scope is applied atomically and durably: either all of its changes are persisted or, if the
+ * commit fails, none of them. Read scopes see the state of the last committed write scope.
+ *
+ * @author Jan Keim
+ *
+ */
+class TransactionalOntModel extends OntModelImpl {
+    private final Transactional store;
+    // number of scopes the current thread has entered; the outermost scope begins and ends the transaction
+    private final ThreadLocal<int[]> scopes = ThreadLocal.withInitial(() -> new int[1]);
+
+    TransactionalOntModel(OntModelSpec spec, Model baseModel, Transactional store) {
+        super(spec, baseModel);
+        this.store = store;
+    }
+
+    @Override
+    public void enterCriticalSection(boolean readLockRequested) {
+        // lock first, so promoting a read scope to a write scope fails before the transaction is touched
+        super.enterCriticalSection(readLockRequested);
+        var depth = scopes.get();
+        if (depth[0] == 0) {
+            try {
+                store.begin(readLockRequested ? TxnType.READ : TxnType.WRITE);
+            } catch (RuntimeException e) {
+                super.leaveCriticalSection();
+                throw e;
+            }
+        }
+        depth[0]++;
+    }
+
+    @Override
+    public void leaveCriticalSection() {
+        var depth = scopes.get();
+        try {
+            depth[0]--;
+            if (depth[0] == 0) {
+                endTransaction();
+            }
+        } finally {
+            super.leaveCriticalSection();
+        }
+    }
+
+    private void endTransaction() {
+        try {
+            if (store.transactionMode() == ReadWrite.WRITE) {
+                store.commit();
+            }
+        } finally {
+            store.end();
+        }
+    }
+}
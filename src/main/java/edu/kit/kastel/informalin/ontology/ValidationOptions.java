@@ -0,0 +1,84 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Options that bound a validation run, see {@link OntologyInterface#streamValidationReports(ValidationOptions)}.
+ * Instances are immutable; the <code>with</code>-methods return modified copies.
+ *
+ * @author Jan Keim
+ *
+ */
+public final class ValidationOptions {
+    private static final ValidationOptions DEFAULTS = new ValidationOptions(Integer.MAX_VALUE, null, false);
+
+    private final int maxReports;
+    private final Duration timeout;
+    private final boolean stopAtFirstError;
+
+    private ValidationOptions(int maxReports, Duration timeout, boolean stopAtFirstError) {
+        this.maxReports = maxReports;
+        this.timeout = timeout;
+        this.stopAtFirstError = stopAtFirstError;
+    }
+
+    /**
+     * Returns the default options: no limit on the number of reports, no time budget, and no early stop.
+     *
+     * @return the default options
+     */
+    public static ValidationOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Returns a copy of these options that stops the validation after the given number of reports.
+     *
+     * @param maxReports maximum number of reports, must not be negative
+     * @return modified copy of these options
+     */
+    public ValidationOptions withMaxReports(int maxReports) {
+        if (maxReports < 0) {
+            throw new IllegalArgumentException("The maximum number of reports must not be negative");
+        }
+        return new ValidationOptions(maxReports, timeout, stopAtFirstError);
+    }
+
+    /**
+     * Returns a copy of these options that stops the validation once the given wall-clock time has passed.
+     *
+     * @param timeout the time budget of the validation
+     * @return modified copy of these options
+     */
+    public ValidationOptions withTimeout(Duration timeout) {
+        Objects.requireNonNull(timeout);
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("The timeout must not be negative");
+        }
+        return new ValidationOptions(maxReports, timeout, stopAtFirstError);
+    }
+
+    /**
+     * Returns a copy of these options that (not) stops the validation after the first error was reported.
+     *
+     * @param stopAtFirstError whether the validation should stop after the first error
+     * @return modified copy of these options
+     */
+    public ValidationOptions withStopAtFirstError(boolean stopAtFirstError) {
+        return new ValidationOptions(maxReports, timeout, stopAtFirstError);
+    }
+
+    public int getMaxReports() {
+        return maxReports;
+    }
+
+    public Optional<Duration> getTimeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    public boolean isStopAtFirstError() {
+        return stopAtFirstError;
+    }
+}
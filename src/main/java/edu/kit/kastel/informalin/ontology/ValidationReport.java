@@ -0,0 +1,102 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.Optional;
+
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.reasoner.ValidityReport.Report;
+
+/**
+ * A single report (error or warning) that was found while validating an ontology. If possible, the report references
+ * the statement or resource that caused it.
+ *
+ * @author Jan Keim
+ *
+ */
+public final class ValidationReport {
+    private final boolean error;
+    private final String type;
+    private final String description;
+    private final Statement statement;
+    private final Resource resource;
+
+    ValidationReport(boolean error, String type, String description, Statement statement, Resource resource) {
+        this.error = error;
+        this.type = type;
+        this.description = description;
+        this.statement = statement;
+        this.resource = resource;
+    }
+
+    static ValidationReport fromTriple(Model model, boolean error, String type, String description, Triple triple) {
+        var statement = model.asStatement(triple);
+        return new ValidationReport(error, type, description, statement, statement.getSubject());
+    }
+
+    static ValidationReport fromReport(Model model, Report report) {
+        var extension = report.getExtension();
+        if (extension instanceof Triple triple) {
+            return fromTriple(model, report.isError(), report.getType(), report.getDescription(), triple);
+        }
+        Resource resource = null;
+        if (extension instanceof RDFNode node && node.isResource()) {
+            resource = model.wrapAsResource(node.asNode());
+        }
+        return new ValidationReport(report.isError(), report.getType(), report.getDescription(), null, resource);
+    }
+
+    /**
+     * Returns whether this report is an error. Otherwise, it is a warning.
+     *
+     * @return <code>true</code> if this report is an error, <code>false</code> if it is a warning
+     */
+    public boolean isError() {
+        return error;
+    }
+
+    /**
+     * Returns the type of this report, e.g., "dtRange" for values that do not match the datatype range of their
+     * property.
+     *
+     * @return the type of this report
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns the human-readable description of this report.
+     *
+     * @return the description of this report
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the statement that caused this report.
+     *
+     * @return {@link Optional} containing the culprit statement. Empty, if the report is not about a single statement
+     */
+    public Optional<Statement> getStatement() {
+        return Optional.ofNullable(statement);
+    }
+
+    /**
+     * Returns the resource that caused this report. For reports about a statement, this is the subject of the
+     * statement.
+     *
+     * @return {@link Optional} containing the culprit resource. Empty, if the report is not about a single resource
+     */
+    public Optional<Resource> getResource() {
+        return Optional.ofNullable(resource);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s): %s", error ? "Error" : "Warning", type, description);
+    }
+}
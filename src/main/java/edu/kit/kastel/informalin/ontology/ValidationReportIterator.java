@@ -0,0 +1,163 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.ontology.OntModel;
+import org.apache.jena.shared.Lock;
+import org.apache.jena.util.iterator.ExtendedIterator;
+
+/**
+ * Lazily produces the {@link ValidationReport}s of an ontology. Reports are only computed when they are requested, and
+ * the iteration ends as soon as one of the bounds of the given {@link ValidationOptions} is reached. Each step reads
+ * the ontology within a read lock. The ontology should not be modified while iterating. After the iteration,
+ * {@link #isTruncated()} tells whether reports were left out because of a bound.
+ *
+ * @author Jan Keim
+ *
+ */
+public final class ValidationReportIterator implements Iterator<ValidationReport> {
+    private final OntModel ontModel;
+    private final DatatypeRangeChecker checker;
+    private final Iterator<Node> properties;
+    private final ValidationOptions options;
+    private final long deadline;
+
+    private Node currentProperty;
+    private ExtendedIterator<Triple> currentTriples;
+    private long consumedTriples = 0;
+    private ValidationReport nextReport;
+    private int numberOfReports = 0;
+    private boolean finished = false;
+    private boolean truncated = false;
+    // the number of reports or the first error stopped the iteration; whether reports were left out is checked lazily
+    private boolean lookAheadPending = false;
+
+    ValidationReportIterator(OntModel ontModel, DatatypeRangeChecker checker, ValidationOptions options) {
+        this.ontModel = ontModel;
+        this.checker = checker;
+        this.options = options;
+        properties = checker.getRangedProperties().iterator();
+        deadline = options.getTimeout().map(timeout -> System.nanoTime() + timeout.toNanos()).orElse(Long.MAX_VALUE);
+        if (options.getMaxReports() == 0) {
+            stop();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextReport != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            nextReport = computeNext();
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+        return nextReport != null;
+    }
+
+    @Override
+    public ValidationReport next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var report = nextReport;
+        nextReport = null;
+        numberOfReports++;
+        if ((options.isStopAtFirstError() && report.isError()) || numberOfReports >= options.getMaxReports()) {
+            stop();
+        }
+        return report;
+    }
+
+    /**
+     * Returns whether reports were left out because of a bound of the {@link ValidationOptions}. If the iteration was
+     * stopped by the maximum number of reports or by the first error, the first call checks whether the ontology
+     * contains a further report; this reads the ontology up to the next report within the time budget. If the time
+     * budget ran out before the whole ontology was checked, the reports are considered truncated.
+     *
+     * @return <code>true</code> if reports were left out, <code>false</code> if all reports were returned
+     */
+    public boolean isTruncated() {
+        if (lookAheadPending) {
+            lookAheadPending = false;
+            ontModel.enterCriticalSection(Lock.READ);
+            try {
+                resume();
+                if (computeNext() != null) {
+                    finish(true);
+                }
+            } finally {
+                ontModel.leaveCriticalSection();
+            }
+        }
+        return truncated;
+    }
+
+    private ValidationReport computeNext() {
+        while (true) {
+            if (System.nanoTime() > deadline) {
+                finish(true);
+                return null;
+            }
+            if (currentTriples == null || !currentTriples.hasNext()) {
+                if (!properties.hasNext()) {
+                    finish(false);
+                    return null;
+                }
+                currentProperty = properties.next();
+                currentTriples = ontModel.getGraph().find(Node.ANY, currentProperty, Node.ANY);
+                consumedTriples = 0;
+                continue;
+            }
+            consumedTriples++;
+            var report = checker.check(ontModel, currentTriples.next());
+            if (report != null) {
+                return report;
+            }
+        }
+    }
+
+    /**
+     * Ends the iteration because of the number of reports or the first error. The position is kept, so
+     * {@link #isTruncated()} can continue from it.
+     */
+    private void stop() {
+        finished = true;
+        lookAheadPending = true;
+        closeTriples();
+    }
+
+    /**
+     * Reopens the triples of the current property and skips the ones that were already checked.
+     */
+    private void resume() {
+        if (currentProperty == null) {
+            return;
+        }
+        currentTriples = ontModel.getGraph().find(Node.ANY, currentProperty, Node.ANY);
+        for (var i = 0L; i < consumedTriples && currentTriples.hasNext(); i++) {
+            currentTriples.next();
+        }
+    }
+
+    private void finish(boolean stoppedEarly) {
+        finished = true;
+        truncated = stoppedEarly;
+        closeTriples();
+    }
+
+    private void closeTriples() {
+        if (currentTriples != null) {
+            currentTriples.close();
+            currentTriples = null;
+        }
+    }
+}
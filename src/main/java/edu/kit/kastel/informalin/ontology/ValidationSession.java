@@ -0,0 +1,208 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.ontology.OntModel;
+import org.apache.jena.rdf.listeners.StatementListener;
+import org.apache.jena.rdf.model.InfModel;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.shared.Lock;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.OWL2;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+
+/**
+ * A session to validate an ontology repeatedly. The session keeps the RDFS inference model alive and tracks the
+ * statements that were added or removed since the last validation run. Subsequent runs only re-check the resources that
+ * are affected by these changes, so the validation time scales with the size of the changes instead of the size of the
+ * ontology.
+ *
+ * Incremental runs perform the datatype range checks of the RDFS reasoner on the affected resources of the kept-alive
+ * inference model, so entailed values (e.g., values of sub-properties) are checked as well. Without schema changes, the
+ * entailments about instances are derived on demand from the current statements, so the inference model only needs to
+ * drop its cached query results instead of being rebound. Changes to the schema (e.g., new ranges, sub-properties, or
+ * datatype declarations) invalidate the inference model and result in a full validation.
+ *
+ * Create a session via {@link OntologyInterface#createValidationSession()} and close it when it is not needed anymore.
+ *
+ * @author Jan Keim
+ *
+ */
+public class ValidationSession implements AutoCloseable {
+    private static final Set<Property> SCHEMA_PROPERTIES = Set.of(RDFS.subClassOf, RDFS.subPropertyOf, RDFS.domain, RDFS.range, OWL.equivalentClass,
+            OWL.equivalentProperty, OWL.inverseOf, OWL2.onDatatype, OWL2.withRestrictions);
+    // types that declare datatypes or properties with datatype values, so they can change the datatype ranges
+    private static final Set<Resource> SCHEMA_TYPES = Set.of(RDFS.Datatype, OWL.DatatypeProperty);
+
+    private final OntModel ontModel;
+    private final InfModel rdfsModel;
+    private final ChangeTracker changeTracker = new ChangeTracker();
+
+    private final Map<Node, List<ValidationReport>> reportsByResource = new HashMap<>();
+    private final List<ValidationReport> unassignedReports = new ArrayList<>();
+    private DatatypeRangeChecker checker;
+    private boolean fullValidationRequired = true;
+    private boolean closed = false;
+
+    ValidationSession(OntModel ontModel) {
+        this.ontModel = ontModel;
+        rdfsModel = ModelFactory.createRDFSModel(ontModel);
+        ontModel.register(changeTracker);
+    }
+
+    /**
+     * Validates the ontology. The first run validates the whole ontology, later runs only re-check the resources that
+     * were affected by changes since the last run.
+     *
+     * @return <code>true</code> if the ontology is valid and has no conflicts, <code>false</code> if there are
+     *         conflicts
+     * @throws IllegalStateException if the session was closed
+     */
+    public synchronized boolean validate() {
+        if (closed) {
+            throw new IllegalStateException("Validation session is closed");
+        }
+        ontModel.enterCriticalSection(Lock.READ);
+        try {
+            if (fullValidationRequired || changeTracker.hasSchemaChanged()) {
+                validateFully();
+            } else {
+                validateIncrementally();
+            }
+        } finally {
+            ontModel.leaveCriticalSection();
+        }
+        return isValid();
+    }
+
+    /**
+     * Returns whether the last validation run found no errors.
+     *
+     * @return <code>true</code> if there were no errors in the last run
+     */
+    public synchronized boolean isValid() {
+        return getReports().stream().noneMatch(ValidationReport::isError);
+    }
+
+    /**
+     * Returns the reports of the last validation run.
+     *
+     * @return the reports of the last validation run
+     */
+    public synchronized List<ValidationReport> getReports() {
+        List<ValidationReport> reports = new ArrayList<>(unassignedReports);
+        reportsByResource.values().forEach(reports::addAll);
+        return reports;
+    }
+
+    /**
+     * Forces the next run to validate the whole ontology.
+     */
+    public synchronized void invalidate() {
+        fullValidationRequired = true;
+    }
+
+    /**
+     * Closes the session, so it does not track changes anymore. Closing waits for a running validation.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ontModel.unregister(changeTracker);
+    }
+
+    private void validateFully() {
+        changeTracker.reset();
+        rdfsModel.rebind();
+        checker = DatatypeRangeChecker.fromSchema(rdfsModel);
+
+        reportsByResource.clear();
+        unassignedReports.clear();
+        var reports = rdfsModel.validate().getReports();
+        while (reports.hasNext()) {
+            var report = ValidationReport.fromReport(ontModel, reports.next());
+            var resource = report.getResource();
+            if (resource.isEmpty()) {
+                unassignedReports.add(report);
+            } else {
+                reportsByResource.computeIfAbsent(resource.get().asNode(), key -> new ArrayList<>()).add(report);
+            }
+        }
+        fullValidationRequired = false;
+    }
+
+    private void validateIncrementally() {
+        var affectedResources = changeTracker.reset();
+        if (affectedResources.isEmpty()) {
+            return;
+        }
+        // drop query results that were cached before the changes; the schema closure stays valid
+        rdfsModel.reset();
+        for (var resource : affectedResources) {
+            var reports = checker.checkResource(rdfsModel, resource);
+            if (reports.isEmpty()) {
+                reportsByResource.remove(resource);
+            } else {
+                reportsByResource.put(resource, reports);
+            }
+        }
+    }
+
+    /**
+     * Listener that records the resources that are affected by changes and whether the schema changed.
+     */
+    private static class ChangeTracker extends StatementListener {
+        private Set<Node> affectedResources = new HashSet<>();
+        private boolean schemaChanged = false;
+
+        @Override
+        public void addedStatement(Statement statement) {
+            record(statement);
+        }
+
+        @Override
+        public void removedStatement(Statement statement) {
+            record(statement);
+        }
+
+        private synchronized void record(Statement statement) {
+            if (isSchemaStatement(statement)) {
+                schemaChanged = true;
+            } else {
+                affectedResources.add(statement.getSubject().asNode());
+            }
+        }
+
+        private static boolean isSchemaStatement(Statement statement) {
+            if (SCHEMA_PROPERTIES.contains(statement.getPredicate())) {
+                return true;
+            }
+            return RDF.type.equals(statement.getPredicate()) && statement.getObject().isResource()
+                    && SCHEMA_TYPES.contains(statement.getObject().asResource());
+        }
+
+        private synchronized boolean hasSchemaChanged() {
+            return schemaChanged;
+        }
+
+        private synchronized Set<Node> reset() {
+            var resources = affectedResources;
+            affectedResources = new HashSet<>();
+            schemaChanged = false;
+            return resources;
+        }
+    }
+}
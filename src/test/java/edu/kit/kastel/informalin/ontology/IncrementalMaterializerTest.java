@@ -0,0 +1,196 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.jena.graph.Triple;
+import org.apache.jena.ontology.OntModel;
+import org.apache.jena.ontology.OntModelSpec;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.reasoner.Reasoner;
+import org.apache.jena.reasoner.ReasonerRegistry;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link IncrementalMaterializer} by comparing its closure with the output of the reasoners of Apache Jena.
+ * Only entailments about individuals are compared, as the reasoners of Jena additionally produce (schema) axioms that
+ * are not part of the supported subset.
+ *
+ * @author Jan Keim
+ *
+ */
+class IncrementalMaterializerTest {
+    private static final String SCHEMA_NS = "https://informalin.github.io/test/schema#";
+    private static final String DATA_NS = "https://informalin.github.io/test/data#";
+
+    private OntModel model;
+    private IncrementalMaterializer materializer;
+
+    private Resource classA;
+    private Resource classB;
+    private Resource classC;
+    private Resource classD;
+    private Resource classE;
+    private Property propertyP;
+    private Property propertyQ;
+    private Property propertyR;
+
+    @BeforeEach
+    void beforeEach() {
+        model = ModelFactory.createOntologyModel(OntModelSpec.OWL_DL_MEM);
+        classA = model.createResource(SCHEMA_NS + "A");
+        classB = model.createResource(SCHEMA_NS + "B");
+        classC = model.createResource(SCHEMA_NS + "C");
+        classD = model.createResource(SCHEMA_NS + "D");
+        classE = model.createResource(SCHEMA_NS + "E");
+        propertyP = model.createProperty(SCHEMA_NS + "p");
+        propertyQ = model.createProperty(SCHEMA_NS + "q");
+        propertyR = model.createProperty(SCHEMA_NS + "r");
+
+        model.add(classA, RDFS.subClassOf, classB);
+        model.add(classB, RDFS.subClassOf, classC);
+        model.add(propertyP, RDFS.subPropertyOf, propertyQ);
+        model.add(propertyQ, RDFS.domain, classD);
+        model.add(propertyQ, RDFS.range, classE);
+
+        model.add(data("a1"), RDF.type, classA);
+        model.add(data("b1"), RDF.type, classB);
+        model.add(data("a1"), propertyP, data("b1"));
+
+        materializer = new IncrementalMaterializer(model);
+        materializer.materialize();
+        model.register(materializer);
+    }
+
+    @AfterEach
+    void afterEach() {
+        model.unregister(materializer);
+        materializer = null;
+        model = null;
+    }
+
+    private Resource data(String localName) {
+        return model.createResource(DATA_NS + localName);
+    }
+
+    @Test
+    @DisplayName("Test initial materialization against the RDFS reasoner")
+    void initialMaterializationTest() {
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+    }
+
+    @Test
+    @DisplayName("Test incremental additions against the RDFS reasoner")
+    void incrementalAdditionTest() {
+        model.add(data("c1"), RDF.type, classA);
+        model.add(classC, RDFS.subClassOf, classD);
+        model.add(data("c1"), propertyQ, data("c2"));
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+
+        var propertyS = model.createProperty(SCHEMA_NS + "s");
+        model.add(propertyS, RDFS.subPropertyOf, propertyP);
+        model.add(data("d1"), propertyS, data("d2"));
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+    }
+
+    @Test
+    @DisplayName("Test incremental removals (delete and rederive) against the RDFS reasoner")
+    void incrementalRemovalTest() {
+        // a1 is a C via A and via a second, independent type
+        model.add(data("a1"), RDF.type, classC);
+        model.remove(classA, RDFS.subClassOf, classB);
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+        Assertions.assertTrue(materializer.getModel().contains(data("a1"), RDF.type, classC));
+        Assertions.assertFalse(materializer.getModel().contains(data("a1"), RDF.type, classB));
+
+        model.remove(data("a1"), propertyP, data("b1"));
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+        Assertions.assertTrue(materializer.getModel().contains(data("b1"), RDF.type, classB));
+        Assertions.assertFalse(materializer.getModel().contains(data("b1"), RDF.type, classE));
+
+        model.remove(propertyQ, RDFS.domain, classD);
+        model.add(data("x1"), propertyP, data("x2"));
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+    }
+
+    @Test
+    @DisplayName("Test asserting and retracting a triple that is also derived")
+    void assertDerivedTripleTest() {
+        model.add(data("a1"), RDF.type, classB);
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+
+        model.remove(data("a1"), RDF.type, classB);
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+        Assertions.assertTrue(materializer.getModel().contains(data("a1"), RDF.type, classB));
+
+        model.remove(data("a1"), RDF.type, classA);
+        assertSameAsReasoner(ReasonerRegistry.getRDFSSimpleReasoner());
+        Assertions.assertFalse(materializer.getModel().contains(data("a1"), RDF.type, classB));
+    }
+
+    @Test
+    @DisplayName("Test inverse properties against the OWL micro reasoner")
+    void inversePropertyTest() {
+        model.add(propertyQ, OWL.inverseOf, propertyR);
+        assertSameAsReasoner(ReasonerRegistry.getOWLMicroReasoner());
+        Assertions.assertTrue(materializer.getModel().contains(data("b1"), propertyR, data("a1")));
+
+        model.add(data("y1"), propertyR, data("y2"));
+        assertSameAsReasoner(ReasonerRegistry.getOWLMicroReasoner());
+        Assertions.assertTrue(materializer.getModel().contains(data("y2"), propertyQ, data("y1")));
+
+        model.remove(propertyQ, OWL.inverseOf, propertyR);
+        assertSameAsReasoner(ReasonerRegistry.getOWLMicroReasoner());
+        Assertions.assertFalse(materializer.getModel().contains(data("b1"), propertyR, data("a1")));
+    }
+
+    @Test
+    @DisplayName("Test full rematerialization yields the incrementally maintained closure")
+    void rematerializationTest() {
+        model.add(data("c1"), RDF.type, classA);
+        model.remove(classB, RDFS.subClassOf, classC);
+        var incremental = materializer.getModel().listStatements().toSet();
+
+        materializer.materialize();
+        var full = materializer.getModel().listStatements().toSet();
+        Assertions.assertEquals(full, incremental);
+    }
+
+    private void assertSameAsReasoner(Reasoner reasoner) {
+        var rawModel = ModelFactory.createDefaultModel().add(model);
+        var infModel = ModelFactory.createInfModel(reasoner, rawModel);
+        var expected = collectIndividualEntailments(infModel);
+        var actual = collectIndividualEntailments(materializer.getModel());
+        Assertions.assertEquals(expected, actual, "Materialized closure differs from the output of the reasoner");
+    }
+
+    private static Set<Triple> collectIndividualEntailments(Model model) {
+        return model.listStatements()
+                .toList()
+                .stream()
+                .filter(IncrementalMaterializerTest::isIndividualEntailment)
+                .map(Statement::asTriple)
+                .collect(Collectors.toSet());
+    }
+
+    private static boolean isIndividualEntailment(Statement statement) {
+        if (!statement.getSubject().isURIResource() || !statement.getSubject().getURI().startsWith(DATA_NS)) {
+            return false;
+        }
+        if (RDF.type.equals(statement.getPredicate())) {
+            return statement.getObject().isURIResource() && statement.getObject().asResource().getURI().startsWith(SCHEMA_NS);
+        }
+        return statement.getPredicate().getURI().startsWith(SCHEMA_NS);
+    }
+}
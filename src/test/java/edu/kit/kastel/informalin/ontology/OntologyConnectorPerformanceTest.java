@@ -1,8 +1,19 @@
 package edu.kit.kastel.informalin.ontology;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
+import org.apache.jena.ontology.Individual;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterEach;
@@ -11,6 +22,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class OntologyConnectorPerformanceTest {
     private static final int CALLS = 10 * 1024;
@@ -122,9 +134,270 @@ class OntologyConnectorPerformanceTest {
         logExecutionTime("list", start, end);
     }
 
+    @Disabled("Disabled for CI. Enable locally if you need this performance test")
+    @Test
+    @DisplayName("test throughput of concurrent list lookups")
+    void concurrentListLookupPerformanceTest() throws InterruptedException, ExecutionException {
+        var listUri = "https://informalin.github.io/knowledgebases/examples/teammates.owl#qBkF5rSDSD";
+        Assertions.assertTrue(ontologyConnector.getListByIri(listUri).isPresent());
+
+        for (var threads : new int[] { 1, 2, 4, 8 }) {
+            var executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Callable<Void>> readers = new ArrayList<>();
+                for (var thread = 0; thread < threads; thread++) {
+                    readers.add(() -> {
+                        for (var i = 0; i < CALLS; i++) {
+                            Assertions.assertTrue(ontologyConnector.getListByIri(listUri).isPresent());
+                        }
+                        return null;
+                    });
+                }
+                var start = Instant.now();
+                for (var future : executor.invokeAll(readers)) {
+                    future.get();
+                }
+                var end = Instant.now();
+                logExecutionTimePerOperation("getListByIri with " + threads + " threads", start, end, threads * CALLS);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Disabled("Disabled for CI. Enable locally if you need this performance test")
+    @Test
+    @DisplayName("test performance of single list operations")
+    void listOperationsPerformanceTest() {
+        var numberOfElements = 1000;
+        List<Individual> individuals = new ArrayList<>();
+        for (var i = 0; i < numberOfElements; i++) {
+            individuals.add(ontologyConnector.addIndividual("ListOperationsElement" + i));
+        }
+        var list = ontologyConnector.addEmptyList("ListOperationsPerformanceList");
+
+        var start = Instant.now();
+        for (var individual : individuals) {
+            list.add(individual);
+        }
+        var end = Instant.now();
+        logExecutionTimePerOperation("list add", start, end, numberOfElements);
+
+        start = Instant.now();
+        for (var i = 0; i < numberOfElements; i++) {
+            Assertions.assertEquals(individuals.get(i), list.get(i));
+        }
+        end = Instant.now();
+        logExecutionTimePerOperation("list get(i)", start, end, numberOfElements);
+
+        start = Instant.now();
+        for (var i = 0; i < numberOfElements; i++) {
+            list.set(i, individuals.get(numberOfElements - 1 - i));
+        }
+        end = Instant.now();
+        logExecutionTimePerOperation("list set(i)", start, end, numberOfElements);
+    }
+
+    @Disabled("Disabled for CI. Enable locally if you need this performance test")
+    @Test
+    @DisplayName("test performance of reading windows of a long list")
+    void listWindowPerformanceTest() {
+        var numberOfElements = 100_000;
+        var windowSize = 100;
+        List<Individual> individuals = new ArrayList<>();
+        for (var i = 0; i < numberOfElements; i++) {
+            individuals.add(ontologyConnector.addIndividual("ListWindowElement" + i));
+        }
+        var list = ontologyConnector.addEmptyList("ListWindowPerformanceList");
+        list.addAll(individuals);
+
+        var numberOfWindows = numberOfElements / windowSize;
+        var start = Instant.now();
+        for (var window = 0; window < numberOfWindows; window++) {
+            var from = window * windowSize;
+            var subList = list.subList(from, from + windowSize);
+            for (var i = 0; i < windowSize; i++) {
+                Assertions.assertEquals(individuals.get(from + i), subList.get(i));
+            }
+        }
+        var end = Instant.now();
+        logExecutionTimePerOperation("list subList window", start, end, numberOfWindows);
+
+        var otherList = ontologyConnector.getListByIri(list.getListIndividual().getURI()).orElseThrow();
+        start = Instant.now();
+        var lastWindow = otherList.subList(numberOfElements - windowSize, numberOfElements);
+        Assertions.assertEquals(individuals.subList(numberOfElements - windowSize, numberOfElements), new ArrayList<>(lastWindow));
+        end = Instant.now();
+        logExecutionTime("list subList window (cold)", start, end);
+    }
+
+    @Disabled("Disabled for CI. Enable locally if you need this performance test")
+    @Test
+    @DisplayName("test performance of building long lists")
+    void listBuilderPerformanceTest() {
+        var numberOfElements = 100_000;
+        List<Individual> individuals = new ArrayList<>();
+        for (var i = 0; i < numberOfElements; i++) {
+            individuals.add(ontologyConnector.addIndividual("ListBuilderElement" + i));
+        }
+
+        var start = Instant.now();
+        var list = ontologyConnector.addEmptyList("ListAddAllPerformanceList");
+        list.addAll(individuals);
+        var end = Instant.now();
+        logExecutionTimePerOperation("list addEmptyList + addAll", start, end, numberOfElements);
+
+        start = Instant.now();
+        var builtList = ontologyConnector.buildList("ListBuilderPerformanceList").addAll(individuals.stream()).build();
+        end = Instant.now();
+        logExecutionTimePerOperation("list builder", start, end, numberOfElements);
+        Assertions.assertEquals(numberOfElements, builtList.size());
+    }
+
+    @Disabled("Disabled for CI. Enable locally if you need this performance test")
+    @Test
+    @DisplayName("test memory usage of regular and lean list slots")
+    void listSlotMemoryTest() {
+        var numberOfElements = 100_000;
+        List<Individual> individuals = new ArrayList<>();
+        for (var i = 0; i < numberOfElements; i++) {
+            individuals.add(ontologyConnector.addIndividual("ListMemoryElement" + i));
+        }
+
+        var regularBytes = measureListMemory("RegularSlotList", individuals);
+        ontologyConnector.setLeanListSlots(true);
+        var leanBytes = measureListMemory("LeanSlotList", individuals);
+
+        logger.info("regular slots use {} bytes per element, lean slots use {} bytes per element (saved {} bytes per element)",
+                regularBytes / numberOfElements, leanBytes / numberOfElements, (regularBytes - leanBytes) / numberOfElements);
+    }
+
+    private long measureListMemory(String label, List<Individual> individuals) {
+        var usedBefore = usedMemory();
+        var start = Instant.now();
+        ontologyConnector.addList(label, individuals);
+        var end = Instant.now();
+        logExecutionTimePerOperation("list addList (" + label + ")", start, end, individuals.size());
+        return usedMemory() - usedBefore;
+    }
+
+    private static long usedMemory() {
+        var runtime = Runtime.getRuntime();
+        for (var i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Disabled("Disabled for CI. Enable locally if you need this performance test")
+    @Test
+    @DisplayName("test cold start from RDF/XML and from binary snapshots")
+    void snapshotColdStartPerformanceTest(@TempDir Path tempDir) {
+        var mediastore = new OntologyConnector("src/test/resources/mediastore.owl");
+        measureColdStart("mediastore", mediastore, tempDir);
+
+        var numberOfTriples = 10_000_000;
+        var synthetic = (OntologyConnector) OntologyConnector.createWithEmptyOntology("https://informalin.github.io/knowledgebases/examples/synthetic.owl#");
+        var property = synthetic.addDataProperty("value");
+        var individualClass = synthetic.addClass("SyntheticClass");
+        List<Statement> statements = new ArrayList<>();
+        for (var i = 0; i < numberOfTriples / 2; i++) {
+            var individual = ResourceFactory.createResource(synthetic.createUri("", "individual" + i));
+            statements.add(ResourceFactory.createStatement(individual, RDF.type, individualClass));
+            statements.add(ResourceFactory.createStatement(individual, property, ResourceFactory.createTypedLiteral(i)));
+            if (statements.size() >= 100_000) {
+                synthetic.addStatements(statements);
+                statements.clear();
+            }
+        }
+        synthetic.addStatements(statements);
+        measureColdStart("synthetic (" + numberOfTriples + " triples)", synthetic, tempDir);
+    }
+
+    @Disabled("Disabled for CI. Enable locally if you need this performance test")
+    @Test
+    @DisplayName("test lookup latency of in-memory and disk-backed storage")
+    void diskStorageLookupPerformanceTest(@TempDir Path tempDir) {
+        var individuals = ontologyConnector.getIndividualsOfClass("Word").stream().map(Individual::getURI).collect(Collectors.toList());
+        Assertions.assertFalse(individuals.isEmpty());
+
+        var start = Instant.now();
+        for (var i = 0; i < CALLS; i++) {
+            Assertions.assertTrue(ontologyConnector.getIndividualByIri(individuals.get(i % individuals.size())).isPresent());
+        }
+        var end = Instant.now();
+        logExecutionTimePerOperation("in-memory getIndividualByIri", start, end, CALLS);
+
+        try (var diskConnector = new OntologyConnector(ontologyPath, tempDir.resolve("tdb").toString())) {
+            start = Instant.now();
+            for (var i = 0; i < CALLS; i++) {
+                Assertions.assertTrue(diskConnector.getIndividualByIri(individuals.get(i % individuals.size())).isPresent());
+            }
+            end = Instant.now();
+            logExecutionTimePerOperation("disk-backed getIndividualByIri", start, end, CALLS);
+        }
+    }
+
+    @Disabled("Disabled for CI. Enable locally if you need this performance test")
+    @Test
+    @DisplayName("test checkpoint cost of full saves and of the change log")
+    void changeLogCheckpointPerformanceTest(@TempDir Path tempDir) {
+        var batches = 20;
+        var batchSize = 100;
+        var start = Instant.now();
+        for (var batch = 0; batch < batches; batch++) {
+            for (var i = 0; i < batchSize; i++) {
+                ontologyConnector.addIndividual("SavedIndividual" + batch + "_" + i);
+            }
+            Assertions.assertTrue(ontologyConnector.save(tempDir.resolve("full.owl").toString()));
+        }
+        var end = Instant.now();
+        logExecutionTimePerOperation("checkpoint with full save", start, end, batches);
+
+        Assertions.assertTrue(ontologyConnector.enableChangeLog(tempDir.resolve("base.rt").toString(), tempDir.resolve("changes.patch").toString()));
+        start = Instant.now();
+        for (var batch = 0; batch < batches; batch++) {
+            for (var i = 0; i < batchSize; i++) {
+                ontologyConnector.addIndividual("LoggedIndividual" + batch + "_" + i);
+            }
+            Assertions.assertTrue(ontologyConnector.checkpoint());
+        }
+        end = Instant.now();
+        logExecutionTimePerOperation("checkpoint with change log", start, end, batches);
+
+        start = Instant.now();
+        Assertions.assertTrue(ontologyConnector.compactChangeLog());
+        end = Instant.now();
+        logExecutionTime("compaction of change log", start, end);
+        Assertions.assertTrue(ontologyConnector.disableChangeLog());
+    }
+
+    private void measureColdStart(String name, OntologyConnector connector, Path tempDir) {
+        var rdfXml = tempDir.resolve(name.hashCode() + ".owl").toString();
+        var snapshot = tempDir.resolve(name.hashCode() + ".rt").toString();
+        Assertions.assertTrue(connector.save(rdfXml));
+        Assertions.assertTrue(connector.saveSnapshot(snapshot));
+
+        var start = Instant.now();
+        var fromRdfXml = new OntologyConnector(rdfXml);
+        var end = Instant.now();
+        logExecutionTime("cold start " + name + " from RDF/XML", start, end);
+
+        start = Instant.now();
+        var fromSnapshot = new OntologyConnector(snapshot);
+        end = Instant.now();
+        logExecutionTime("cold start " + name + " from RDF Thrift", start, end);
+        Assertions.assertEquals(fromRdfXml.ontModel.getBaseModel().size(), fromSnapshot.ontModel.getBaseModel().size());
+    }
+
     private void logExecutionTime(String name, Instant start, Instant end) {
         var duration = Duration.between(start, end);
         logger.info("{} took {}.{}s", name, duration.getSeconds(), duration.getNano());
     }
 
+    private void logExecutionTimePerOperation(String name, Instant start, Instant end, int operations) {
+        var duration = Duration.between(start, end);
+        logger.info("{} took {}.{}s ({} per operation)", name, duration.getSeconds(), duration.getNano(), duration.dividedBy(operations));
+    }
+
 }
@@ -1,17 +1,27 @@
 package edu.kit.kastel.informalin.ontology;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.jena.ontology.Individual;
+import org.apache.jena.ontology.OntDocumentManager;
+import org.apache.jena.ontology.OntModelSpec;
 import org.apache.jena.ontology.OntProperty;
 import org.apache.jena.rdf.model.Literal;
+import org.eclipse.collections.api.factory.Sets;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * Tests the {@link OntologyConnector}. As the {@link OntologyConnector} is only a utility class mostly using the Apache
@@ -120,6 +130,112 @@ class OntologyConnectorTest {
 
     }
 
+    @Test
+    @DisplayName("Test the lazy, paginated, and count-only retrieval of inferred individuals")
+    void getInferredIndividualsOfClassVariantsTest() {
+        var connector = OntologyConnector.createWithEmptyOntology("https://informalin.github.io/test/inferred#");
+        var vehicle = connector.addClass("Vehicle");
+        var car = connector.addSubClass("Car", vehicle);
+        connector.addClass("Bicycle");
+        for (var i = 0; i < 5; i++) {
+            connector.addIndividualToClass("Car" + i, car);
+        }
+        connector.addIndividualToClass("Truck", vehicle);
+
+        var expected = Set.copyOf(connector.getInferredIndividualsOfClass("Vehicle").castToList());
+        Assertions.assertEquals(6, expected.size());
+        Assertions.assertEquals(6, connector.countInferredIndividualsOfClass("Vehicle"));
+        Assertions.assertTrue(connector.hasInferredIndividualsOfClass("Vehicle"));
+        Assertions.assertFalse(connector.hasInferredIndividualsOfClass("Bicycle"));
+        Assertions.assertEquals(0, connector.countInferredIndividualsOfClass(NONEXISTENT));
+        try (var stream = connector.streamInferredIndividualsOfClass("Vehicle")) {
+            Assertions.assertEquals(expected, stream.collect(Collectors.toSet()));
+        }
+
+        // the materialized closure has a stable order, so pages can be combined
+        connector.enableIncrementalMaterialization();
+        var firstPage = connector.getInferredIndividualsOfClass("Vehicle", 0, 4);
+        var secondPage = connector.getInferredIndividualsOfClass("Vehicle", 4, 4);
+        Assertions.assertEquals(4, firstPage.size());
+        Assertions.assertEquals(2, secondPage.size());
+        Assertions.assertEquals(expected, Sets.mutable.withAll(firstPage).withAll(secondPage));
+        Assertions.assertTrue(connector.getInferredIndividualsOfClass("Vehicle", 6, 4).isEmpty());
+
+        var cursor = connector.iterateInferredIndividualsOfClass("Car");
+        var numberOfCars = 0;
+        while (cursor.hasNext()) {
+            Assertions.assertTrue(expected.contains(cursor.next()));
+            numberOfCars++;
+        }
+        Assertions.assertEquals(5, numberOfCars);
+    }
+
+    @Test
+    @DisplayName("Test retrieving the inferred individuals of multiple classes at once")
+    void getInferredIndividualsOfClassesTest() {
+        var connector = OntologyConnector.createWithEmptyOntology("https://informalin.github.io/test/inferred#");
+        var vehicle = connector.addClass("Vehicle");
+        var car = connector.addSubClass("Car", vehicle);
+        var bicycle = connector.addClass("Bicycle");
+        for (var i = 0; i < 5; i++) {
+            connector.addIndividualToClass("Car" + i, car);
+        }
+        connector.addIndividualToClass("Truck", vehicle);
+
+        var individualsByClass = connector.getInferredIndividualsOfClasses(List.of(vehicle, car, bicycle));
+        Assertions.assertEquals(3, individualsByClass.size());
+        for (var className : List.of("Vehicle", "Car", "Bicycle")) {
+            var clazz = connector.getClass(className).orElseThrow();
+            var expected = Set.copyOf(connector.getInferredIndividualsOfClass(className).castToList());
+            Assertions.assertEquals(expected, Set.copyOf(individualsByClass.get(clazz).castToList()), "Individuals of " + className + " differ");
+        }
+        Assertions.assertEquals(6, individualsByClass.get(vehicle).size());
+        Assertions.assertTrue(individualsByClass.get(bicycle).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test that inference queries can be bounded and are recorded in the metrics")
+    void boundedInferenceQueryTest() {
+        var metrics = ontologyConnector.getInferenceMetrics();
+        var completeResult = ontologyConnector.getInferredIndividualsOfClass(BASIC_COMPONENT, InferenceOptions.defaults());
+        Assertions.assertTrue(completeResult.isComplete());
+        Assertions.assertTrue(completeResult.getIndividuals().size() >= 14);
+        Assertions.assertTrue(completeResult.getProcessedStatements() >= completeResult.getIndividuals().size());
+        Assertions.assertEquals(1, metrics.getNumberOfQueries());
+
+        var token = new CancellationToken();
+        token.cancel();
+        var cancelledResult = ontologyConnector.getInferredIndividualsOfClass(BASIC_COMPONENT, InferenceOptions.defaults().withCancellationToken(token));
+        Assertions.assertFalse(cancelledResult.isComplete());
+        Assertions.assertTrue(cancelledResult.getIndividuals().isEmpty());
+
+        var timedOutResult = ontologyConnector.getInferredIndividualsOfClass(BASIC_COMPONENT, InferenceOptions.defaults().withTimeout(Duration.ZERO));
+        Assertions.assertFalse(timedOutResult.isComplete());
+
+        Assertions.assertEquals(3, metrics.getNumberOfQueries());
+        Assertions.assertEquals(2, metrics.getNumberOfAbortedQueries());
+
+        // the lock has to be released after an aborted query
+        var individual = ontologyConnector.addIndividual("AfterAbortedQuery");
+        Assertions.assertNotNull(individual);
+    }
+
+    @Test
+    @DisplayName("Test that bounded inference queries work within read and write scopes")
+    void boundedInferenceQueryInScopeTest() {
+        var expected = Set.copyOf(ontologyConnector.getInferredIndividualsOfClass(BASIC_COMPONENT).castToList());
+        var timeout = InferenceOptions.defaults().withTimeout(Duration.ofMinutes(1));
+        var token = InferenceOptions.defaults().withCancellationToken(new CancellationToken());
+
+        var inWriteScope = ontologyConnector.callInWriteScope(() -> ontologyConnector.getInferredIndividualsOfClass(BASIC_COMPONENT, timeout));
+        Assertions.assertTrue(inWriteScope.isComplete());
+        Assertions.assertEquals(expected, Set.copyOf(inWriteScope.getIndividuals().castToList()));
+
+        var inReadScope = ontologyConnector.callInReadScope(() -> ontologyConnector.getInferredIndividualsOfClass(BASIC_COMPONENT, token));
+        Assertions.assertTrue(inReadScope.isComplete());
+        Assertions.assertEquals(expected, Set.copyOf(inReadScope.getIndividuals().castToList()));
+    }
+
     @Test
     @DisplayName("Test if retrieval of single individual via name works")
     void getIndividualTest() {
@@ -290,4 +406,143 @@ class OntologyConnectorTest {
 
     }
 
+    @Test
+    @DisplayName("Test saving and loading a binary snapshot")
+    void snapshotTest(@TempDir Path tempDir) {
+        var snapshot = tempDir.resolve("mediastore.rt").toString();
+        Assertions.assertTrue(ontologyConnector.saveSnapshot(snapshot));
+
+        var loadedConnector = createOntologyConnector(snapshot);
+        Assertions.assertEquals(ontologyConnector.ontModel.getBaseModel().size(), loadedConnector.ontModel.getBaseModel().size());
+        Assertions.assertTrue(ontologyConnector.ontModel.getBaseModel().isIsomorphicWith(loadedConnector.ontModel.getBaseModel()));
+        Assertions.assertEquals(URI_SYSTEM, loadedConnector.getIndividual(LABEL_SYSTEM).orElseThrow().getURI());
+        Assertions.assertEquals(ontologyConnector.getList(TEST_LIST_LABEL).orElseThrow().toList(),
+                loadedConnector.getList(TEST_LIST_LABEL).orElseThrow().toList());
+    }
+
+    @Test
+    @DisplayName("Test asynchronous saving")
+    void saveAsyncTest(@TempDir Path tempDir) throws IOException {
+        var file = tempDir.resolve("mediastore.owl").toString();
+        var expectedSize = ontologyConnector.ontModel.getBaseModel().size();
+        var future = ontologyConnector.saveAsync(file);
+        // changes after the call are not part of the saved state
+        ontologyConnector.addIndividual("AddedAfterSave");
+        ontologyConnector.removeIndividual(LABEL_SYSTEM);
+        Assertions.assertTrue(ontologyConnector.getIndividual("AddedAfterSave").isPresent());
+        Assertions.assertTrue(ontologyConnector.getIndividual(LABEL_SYSTEM).isEmpty());
+
+        var result = future.join();
+        Assertions.assertEquals(Files.size(result.getFile()), result.getBytes());
+        Assertions.assertTrue(result.getBytes() > 0);
+
+        var loadedConnector = createOntologyConnector(file);
+        Assertions.assertEquals(expectedSize, loadedConnector.ontModel.getBaseModel().size());
+        Assertions.assertEquals(URI_SYSTEM, loadedConnector.getIndividual(LABEL_SYSTEM).orElseThrow().getURI());
+        Assertions.assertTrue(loadedConnector.getIndividual("AddedAfterSave").isEmpty());
+
+        // the changes made during the save are part of the next save
+        ontologyConnector.addIndividual("AddedAfterFirstSave");
+        var nextFile = tempDir.resolve("mediastore2.owl").toString();
+        ontologyConnector.saveAsync(nextFile).join();
+        var nextLoadedConnector = createOntologyConnector(nextFile);
+        Assertions.assertEquals(ontologyConnector.ontModel.getBaseModel().size(), nextLoadedConnector.ontModel.getBaseModel().size());
+        Assertions.assertTrue(nextLoadedConnector.getIndividual("AddedAfterSave").isPresent());
+        Assertions.assertTrue(nextLoadedConnector.getIndividual("AddedAfterFirstSave").isPresent());
+        Assertions.assertTrue(nextLoadedConnector.getIndividual(LABEL_SYSTEM).isEmpty());
+
+        // once no snapshot is in use anymore, the next write installs the plain base graph again
+        ontologyConnector.addIndividual("AddedAfterSecondSave");
+        Assertions.assertFalse(ontologyConnector.ontModel.getBaseGraph() instanceof CopyOnWriteGraph);
+        Assertions.assertTrue(ontologyConnector.getIndividual("AddedAfterSecondSave").isPresent());
+    }
+
+    @Test
+    @DisplayName("Test that the bundled list ontology is only mapped for the connector")
+    void documentManagerTest() {
+        var listUri = OrderedOntologyList.LIST_BASE_URI;
+        Assertions.assertEquals(OrderedOntologyList.LIST_ONTOLOGY_LOCATION, OntologyConnector.modelSpec.getDocumentManager().doAltURLMapping(listUri));
+        Assertions.assertEquals(listUri, OntDocumentManager.getInstance().doAltURLMapping(listUri));
+        Assertions.assertEquals(listUri, OntModelSpec.OWL_DL_MEM.getDocumentManager().doAltURLMapping(listUri));
+        Assertions.assertEquals(OrderedOntologyList.LIST_EXTENSION_LOCATION,
+                OntologyConnector.modelSpec.getDocumentManager().doAltURLMapping(OrderedOntologyList.LIST_EXTENSION_URI));
+    }
+
+    @Test
+    @DisplayName("Test change log persistence")
+    void changeLogTest(@TempDir Path tempDir) throws IOException {
+        var snapshot = tempDir.resolve("mediastore.rt").toString();
+        var changeLog = tempDir.resolve("mediastore.patch");
+        Assertions.assertTrue(ontologyConnector.enableChangeLog(snapshot, changeLog.toString()));
+        Assertions.assertEquals(0, Files.size(changeLog));
+
+        var individual = ontologyConnector.addIndividual("ChangeLogIndividual");
+        var dataProperty = ontologyConnector.getDataProperty(DATA_PROPERTY_LABEL).orElseThrow();
+        ontologyConnector.addPropertyToIndividual(individual, dataProperty, "changed \"value\"\nwith newline");
+        ontologyConnector.removeIndividual(LABEL_SYSTEM);
+        Assertions.assertTrue(ontologyConnector.checkpoint());
+        Assertions.assertTrue(Files.size(changeLog) > 0);
+
+        var loadedConnector = (OntologyConnector) OntologyConnector.loadWithChangeLog(snapshot, changeLog.toString());
+        Assertions.assertTrue(ontologyConnector.ontModel.getBaseModel().isIsomorphicWith(loadedConnector.ontModel.getBaseModel()));
+        Assertions.assertTrue(loadedConnector.getIndividual("ChangeLogIndividual").isPresent());
+        Assertions.assertTrue(loadedConnector.getIndividual(LABEL_SYSTEM).isEmpty());
+        Assertions.assertTrue(loadedConnector.disableChangeLog());
+
+        Assertions.assertTrue(ontologyConnector.compactChangeLog());
+        Assertions.assertEquals(0, Files.size(changeLog));
+        Assertions.assertTrue(ontologyConnector.disableChangeLog());
+        Assertions.assertFalse(ontologyConnector.checkpoint());
+
+        var compactedConnector = (OntologyConnector) OntologyConnector.loadWithChangeLog(snapshot, changeLog.toString());
+        Assertions.assertTrue(ontologyConnector.ontModel.getBaseModel().isIsomorphicWith(compactedConnector.ontModel.getBaseModel()));
+        Assertions.assertTrue(compactedConnector.disableChangeLog());
+    }
+
+    @Test
+    @DisplayName("Test disk-backed storage")
+    void diskStorageTest(@TempDir Path tempDir) {
+        var storageDirectory = tempDir.resolve("tdb").toString();
+        String individualUri;
+        long expectedSize;
+        try (var diskConnector = new OntologyConnector(ontologyPath, storageDirectory)) {
+            Assertions.assertEquals(ontologyConnector.ontModel.getBaseModel().size(), baseModelSize(diskConnector));
+            Assertions.assertEquals(URI_SYSTEM, diskConnector.getIndividual(LABEL_SYSTEM).orElseThrow().getURI());
+            Assertions.assertEquals(ontologyConnector.getList(TEST_LIST_LABEL).orElseThrow().toList(),
+                    diskConnector.getList(TEST_LIST_LABEL).orElseThrow().toList());
+
+            individualUri = diskConnector.addIndividual("DiskIndividual").getURI();
+            expectedSize = baseModelSize(diskConnector);
+        }
+
+        try (var reopenedConnector = new OntologyConnector(ontologyPath, storageDirectory)) {
+            Assertions.assertEquals(individualUri, reopenedConnector.getIndividual("DiskIndividual").orElseThrow().getURI());
+            Assertions.assertEquals(expectedSize, baseModelSize(reopenedConnector));
+        }
+    }
+
+    @Test
+    @DisplayName("Test saving a disk-backed ontology asynchronously")
+    void diskStorageSaveAsyncTest(@TempDir Path tempDir) {
+        var storageDirectory = tempDir.resolve("tdb").toString();
+        var file = tempDir.resolve("mediastore.owl").toString();
+        String individualUri;
+        try (var diskConnector = new OntologyConnector(ontologyPath, storageDirectory)) {
+            var expectedSize = baseModelSize(diskConnector);
+            var future = diskConnector.saveAsync(file);
+            individualUri = diskConnector.addIndividual("AddedDuringSave").getURI();
+            future.join();
+            Assertions.assertEquals(expectedSize, createOntologyConnector(file).ontModel.getBaseModel().size());
+        }
+
+        // the write scopes that ran during the save were committed to the store
+        try (var reopenedConnector = new OntologyConnector(ontologyPath, storageDirectory)) {
+            Assertions.assertEquals(individualUri, reopenedConnector.getIndividual("AddedDuringSave").orElseThrow().getURI());
+        }
+    }
+
+    private static long baseModelSize(OntologyConnector connector) {
+        return connector.callInReadScope(() -> connector.ontModel.getBaseModel().size());
+    }
+
 }
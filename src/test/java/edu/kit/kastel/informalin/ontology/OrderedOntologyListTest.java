@@ -1,14 +1,22 @@
 package edu.kit.kastel.informalin.ontology;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
 
 import org.apache.jena.ontology.Individual;
+import org.apache.jena.vocabulary.XSD;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class OrderedOntologyListTest {
     private static String ontologyPath = "src/test/resources/mediastore.owl";
@@ -158,6 +166,22 @@ class OrderedOntologyListTest {
         }
     }
 
+    @Test
+    @DisplayName("Test that indexed adding of a collection keeps the order of the list")
+    void addAllIndexedOrderTest() {
+        var olo = getTestList();
+        var before = olo.toList();
+        var individuals = getExampleIndividuals();
+        olo.addAll(1, individuals);
+
+        List<Individual> expected = new ArrayList<>(before);
+        expected.addAll(1, individuals);
+        Assertions.assertEquals(expected, olo.toList());
+        Assertions.assertEquals(expected, getTestList().toList());
+        Assertions.assertEquals(individuals.get(1), olo.get(2));
+        Assertions.assertEquals(before.get(1), olo.get(3));
+    }
+
     @Test
     @DisplayName("Test indexed adding of a collection of elements to previously empty list")
     void addAllIndexedToEmptyListTest() {
@@ -213,6 +237,30 @@ class OrderedOntologyListTest {
         Assertions.assertTrue(oloList.isEmpty());
     }
 
+    @Test
+    @DisplayName("Test removeAll and retainAll methods")
+    void removeAllAndRetainAllTest() {
+        var olo = getTestList();
+        var original = olo.toList();
+        var individuals = getExampleIndividuals();
+        olo.addAll(1, individuals);
+        olo.add(individuals.get(0));
+
+        Assertions.assertTrue(olo.removeAll(List.of(individuals.get(0))));
+        Assertions.assertFalse(olo.contains(individuals.get(0)));
+        Assertions.assertEquals(original.size() + 1, olo.size());
+
+        Assertions.assertTrue(olo.retainAll(original));
+        Assertions.assertEquals(original, olo.toList());
+        Assertions.assertEquals(original, getTestList().toList());
+        Assertions.assertFalse(olo.retainAll(original));
+
+        Assertions.assertTrue(olo.removeAll(List.of(original.get(0), original.get(2))));
+        Assertions.assertEquals(List.of(original.get(1)), olo.toList());
+        Assertions.assertEquals(List.of(original.get(1)), getTestList().toList());
+        Assertions.assertEquals(0, olo.indexOf(original.get(1)));
+    }
+
     @Test
     @DisplayName("Test indexOf method")
     void indexOfTest() {
@@ -241,6 +289,166 @@ class OrderedOntologyListTest {
         Assertions.assertEquals(currSize, olo.lastIndexOf(userdbadapter));
     }
 
+    @Test
+    @DisplayName("Test that item lookups only consider the slots of the list itself")
+    void itemLookupTest() {
+        var olo = getTestList();
+        Individual userdbadapter = ontologyConnector.getIndividual("UserDBAdapter").get();
+        var otherList = ontologyConnector.addList("OtherTestList", List.of(userdbadapter, userdbadapter));
+        Assertions.assertEquals(1, olo.indexOf(userdbadapter));
+        Assertions.assertEquals(1, olo.lastIndexOf(userdbadapter));
+        Assertions.assertEquals(0, otherList.indexOf(userdbadapter));
+        Assertions.assertEquals(1, otherList.lastIndexOf(userdbadapter));
+
+        ontologyConnector.setListIndexingMode(OrderedOntologyList.IndexingMode.SPARSE);
+        var facade = ontologyConnector.getIndividual("Facade").get();
+        Assertions.assertFalse(olo.contains(facade));
+        olo.add(0, facade);
+        olo.add(facade);
+        Assertions.assertTrue(olo.contains(facade));
+        Assertions.assertEquals(0, olo.indexOf(facade));
+        Assertions.assertEquals(olo.size() - 1, olo.lastIndexOf(facade));
+        Assertions.assertEquals(2, olo.indexOf(userdbadapter));
+
+        Assertions.assertTrue(olo.remove(facade));
+        Assertions.assertEquals(1, olo.indexOf(userdbadapter));
+        Assertions.assertEquals(olo.size() - 1, olo.indexOf(facade));
+        Assertions.assertTrue(otherList.remove(userdbadapter));
+        Assertions.assertEquals(List.of(userdbadapter), otherList.toList());
+        Assertions.assertTrue(olo.contains(userdbadapter));
+    }
+
+    @Test
+    @DisplayName("Test lazy iteration and streaming of the list")
+    void iterationTest() {
+        var olo = getTestList();
+        var expected = olo.toList();
+
+        List<Individual> iterated = new ArrayList<>();
+        for (var individual : olo) {
+            iterated.add(individual);
+        }
+        Assertions.assertEquals(expected, iterated);
+        Assertions.assertEquals(expected, olo.stream().toList());
+        Assertions.assertEquals(expected.get(0), olo.stream().findFirst().orElseThrow());
+        Assertions.assertEquals(expected.subList(0, 2), olo.stream().limit(2).toList());
+
+        var iterator = olo.iterator();
+        iterator.next();
+        olo.add(getExampleIndividuals().get(0));
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::hasNext);
+    }
+
+    @Test
+    @DisplayName("Test that iterating a list is not affected by modifications of another list")
+    void iterationWithOtherListModificationTest() {
+        var olo = getTestList();
+        var expected = olo.toList();
+        var individuals = getExampleIndividuals();
+        var otherOlo = ontologyConnector.addList("OtherTestList", individuals);
+
+        List<Individual> iterated = new ArrayList<>();
+        var iterator = olo.iterator();
+        var listIterator = olo.listIterator();
+        while (iterator.hasNext()) {
+            iterated.add(iterator.next());
+            otherOlo.add(individuals.get(0));
+            listIterator.next();
+        }
+        Assertions.assertEquals(expected, iterated);
+        Assertions.assertFalse(listIterator.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test removing elements through the iterator and removeIf")
+    void iteratorRemoveTest() {
+        var olo = getTestList();
+        var expected = olo.toList();
+
+        var iterator = olo.iterator();
+        Assertions.assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        Assertions.assertThrows(IllegalStateException.class, iterator::remove);
+        Assertions.assertEquals(expected.get(2), iterator.next());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(List.of(expected.get(0), expected.get(2)), olo.toList());
+        Assertions.assertEquals(List.of(expected.get(0), expected.get(2)), getTestList().toList());
+
+        Assertions.assertTrue(olo.removeIf(expected.get(2)::equals));
+        Assertions.assertFalse(olo.removeIf(expected.get(2)::equals));
+        Assertions.assertEquals(List.of(expected.get(0)), olo.toList());
+        Assertions.assertEquals(1, getTestList().size());
+    }
+
+    @Test
+    @DisplayName("Test modifications through the list iterator")
+    void listIteratorTest() {
+        var olo = getTestList();
+        var individuals = getExampleIndividuals();
+        var listIterator = olo.listIterator(1);
+        Assertions.assertEquals(1, listIterator.nextIndex());
+        listIterator.next();
+        listIterator.set(individuals.get(0));
+        listIterator.add(individuals.get(1));
+        Assertions.assertEquals(individuals.get(0), olo.get(1));
+        Assertions.assertEquals(individuals.get(1), olo.get(2));
+        Assertions.assertEquals(4, olo.size());
+
+        listIterator.previous();
+        listIterator.remove();
+        Assertions.assertEquals(3, olo.size());
+        Assertions.assertEquals(olo.toList(), getTestList().toList());
+    }
+
+    @Test
+    @DisplayName("Test reading and modifying the list through a subList view")
+    void subListTest() {
+        var olo = getTestList();
+        var expected = olo.toList();
+        var individuals = getExampleIndividuals();
+
+        var subList = olo.subList(1, 3);
+        Assertions.assertEquals(expected.subList(1, 3), subList);
+
+        subList.set(0, individuals.get(0));
+        Assertions.assertEquals(individuals.get(0), olo.get(1));
+
+        subList.remove(1);
+        Assertions.assertEquals(1, subList.size());
+        Assertions.assertEquals(2, olo.size());
+        Assertions.assertEquals(List.of(expected.get(0), individuals.get(0)), getTestList().toList());
+
+        var otherOlo = ontologyConnector.addList("OtherTestList", individuals);
+        otherOlo.add(individuals.get(1));
+        otherOlo.remove(0);
+        Assertions.assertEquals(individuals.get(0), subList.get(0));
+
+        olo.add(individuals.get(1));
+        Assertions.assertThrows(ConcurrentModificationException.class, () -> subList.get(0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> olo.subList(2, 4));
+    }
+
+    @Test
+    @DisplayName("Test clearing a range of the list through a sublist")
+    void subListClearTest() {
+        var olo = getTestList();
+        var individuals = getExampleIndividuals();
+        olo.addAll(individuals);
+        var expected = new ArrayList<>(olo.toList());
+
+        var subList = getTestList().subList(1, 4);
+        Assertions.assertEquals(expected.subList(1, 4), subList);
+        subList.clear();
+        expected.subList(1, 4).clear();
+
+        Assertions.assertTrue(subList.isEmpty());
+        Assertions.assertEquals(expected, getTestList().toList());
+        Assertions.assertEquals(expected.size(), getTestList().size());
+        Assertions.assertEquals(expected.get(1), getTestList().get(1));
+    }
+
     @Test
     @DisplayName("Test remove method")
     void removeTest() {
@@ -252,6 +460,326 @@ class OrderedOntologyListTest {
         Assertions.assertEquals(2, olo.size(), "Size after removal does not match expected size");
     }
 
+    @Test
+    @DisplayName("Test index-based access on list instances whose slots are not cached")
+    void coldCacheIndexAccessTest() {
+        ontologyConnector.setListTailPersistence(true);
+        getTestList().addAll(getExampleIndividuals());
+        var expected = getTestList().toList();
+        for (var indexingMode : OrderedOntologyList.IndexingMode.values()) {
+            ontologyConnector.setListIndexingMode(indexingMode);
+            // walks backwards from the end, so the persisted tail is the closest known slot
+            var olo = getTestList();
+            for (var index = expected.size() - 1; index >= 0; index--) {
+                Assertions.assertEquals(expected.get(index), olo.get(index));
+            }
+            Assertions.assertEquals(expected.get(1), getTestList().get(1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> getTestList().get(expected.size()));
+        }
+    }
+
+    @Test
+    @DisplayName("Test that index-based access reflects changes made through another list instance")
+    void externalModificationTest() {
+        var olo = getTestList();
+        var otherOlo = getTestList();
+        Assertions.assertEquals(olo.toList(), otherOlo.toList());
+
+        var individuals = getExampleIndividuals();
+        otherOlo.add(0, individuals.get(0));
+        otherOlo.add(individuals.get(1));
+        Assertions.assertEquals(individuals.get(0), olo.get(0));
+        Assertions.assertEquals(individuals.get(1), olo.get(olo.size() - 1));
+        Assertions.assertEquals(otherOlo.toList(), olo.toList());
+
+        olo.remove(0);
+        Assertions.assertEquals(olo.toList(), otherOlo.toList());
+        for (var i = 0; i < olo.size(); i++) {
+            Assertions.assertEquals(olo.get(i), otherOlo.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Test that changes are tracked per list")
+    void perListChangeTrackingTest() {
+        var tracker = new ListChangeTracker();
+        ontologyConnector.addModelChangedListener(tracker);
+        var olo = getTestList();
+        var individuals = getExampleIndividuals();
+        var otherOlo = ontologyConnector.addList("OtherTestList", individuals);
+        var version = tracker.getVersion(olo.getListIndividual());
+        var otherVersion = tracker.getVersion(otherOlo.getListIndividual());
+
+        otherOlo.add(individuals.get(0));
+        otherOlo.add(0, individuals.get(1));
+        otherOlo.remove(1);
+        otherOlo.set(0, individuals.get(0));
+        Assertions.assertEquals(version, tracker.getVersion(olo.getListIndividual()));
+        Assertions.assertTrue(tracker.getVersion(otherOlo.getListIndividual()) > otherVersion);
+
+        olo.remove(0);
+        Assertions.assertTrue(tracker.getVersion(olo.getListIndividual()) > version);
+        ontologyConnector.removeModelChangedListener(tracker);
+    }
+
+    @Test
+    @DisplayName("Test that concurrent readers never observe a partially modified list")
+    void atomicMutationTest() throws InterruptedException {
+        var olo = getTestList();
+        var readerOlo = getTestList();
+        var individuals = getExampleIndividuals();
+        var inconsistentReads = new AtomicInteger();
+        var running = new AtomicBoolean(true);
+
+        var reader = new Thread(() -> {
+            while (running.get()) {
+                boolean consistent = ontologyConnector.callInReadScope(() -> readerOlo.toList().size() == readerOlo.size());
+                if (!consistent) {
+                    inconsistentReads.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        for (var i = 0; i < 50; i++) {
+            olo.add(1, individuals.get(i % 2));
+            olo.set(0, individuals.get((i + 1) % 2));
+            olo.remove(1);
+        }
+        running.set(false);
+        reader.join();
+
+        Assertions.assertEquals(0, inconsistentReads.get());
+        Assertions.assertEquals(3, olo.size());
+        Assertions.assertEquals(olo.toList(), readerOlo.toList());
+    }
+
+    @Test
+    @DisplayName("Test that sparse indices keep the order of the slots and are compacted to dense indices")
+    void sparseIndexingTest() {
+        ontologyConnector.setListIndexingMode(OrderedOntologyList.IndexingMode.SPARSE);
+        var olo = getTestList();
+        var individuals = getExampleIndividuals();
+        olo.add(individuals.get(0));
+        olo.add(1, individuals.get(1));
+        olo.add(1, individuals.get(0));
+        olo.add(0, individuals.get(1));
+        olo.remove(2);
+        var expected = olo.toList();
+        Assertions.assertEquals(6, expected.size());
+        Assertions.assertEquals(expected, getTestList().toList());
+
+        var indices = getSlotIndices(olo);
+        Assertions.assertEquals(expected.size(), indices.size());
+        for (var i = 1; i < indices.size(); i++) {
+            Assertions.assertTrue(indices.get(i - 1) < indices.get(i), "Indices are not ordered: " + indices);
+        }
+        Assertions.assertTrue(indices.get(indices.size() - 1) >= OrderedOntologyList.SPARSE_INDEX_GAP);
+
+        ontologyConnector.setListIndexingMode(OrderedOntologyList.IndexingMode.DENSE);
+        Assertions.assertEquals(expected, olo.toList());
+        Assertions.assertEquals(LongStream.range(0, expected.size()).boxed().toList(), getSlotIndices(olo));
+    }
+
+    @Test
+    @DisplayName("Test appending via the persisted tail of the list")
+    void tailPersistenceTest() {
+        ontologyConnector.setListTailPersistence(true);
+        var individuals = getExampleIndividuals();
+        var olo = getTestList();
+        var expected = new ArrayList<>(olo.toList());
+        olo.add(individuals.get(0));
+        expected.add(individuals.get(0));
+
+        // a fresh instance has no cached slots and appends after the persisted tail
+        getTestList().addAll(individuals);
+        expected.addAll(individuals);
+        Assertions.assertEquals(expected, olo.toList());
+        Assertions.assertEquals(expected.size(), olo.size());
+
+        var tailProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_EXTENSION_URI + OrderedOntologyList.LIST_PROPERTY_TAIL).orElseThrow();
+        var tail = ontologyConnector.transformIntoIndividual(ontologyConnector.getPropertyValue(olo.getListIndividual(), tailProperty)).orElseThrow();
+        var itemProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_ITEM).orElseThrow();
+        Assertions.assertEquals(individuals.get(1), ontologyConnector.getPropertyValue(tail, itemProperty));
+        // the tail is defined by the bundled extension, not in the olo namespace
+        Assertions.assertTrue(ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_TAIL).isEmpty());
+
+        olo.remove(olo.size() - 1);
+        getTestList().add(individuals.get(1));
+        Assertions.assertEquals(expected, olo.toList());
+        Assertions.assertEquals(LongStream.range(0, expected.size()).boxed().toList(), getSlotIndices(olo));
+
+        var emptyList = ontologyConnector.addEmptyList("EmptyTestList");
+        emptyList.add(individuals.get(0));
+        Assertions.assertEquals(List.of(individuals.get(0)), ontologyConnector.getList("EmptyTestList").orElseThrow().toList());
+    }
+
+    @Test
+    @DisplayName("Test lean slots with deterministic Iris and without labels")
+    void leanSlotsTest() {
+        ontologyConnector.setLeanListSlots(true);
+        var individuals = getExampleIndividuals();
+        var olo = ontologyConnector.addList("LeanTestList", individuals);
+        Assertions.assertEquals(individuals, ontologyConnector.getList("LeanTestList").orElseThrow().toList());
+
+        var listIri = olo.getListIndividual().getURI();
+        Assertions.assertEquals(listIri + OrderedOntologyList.SLOT_SUFFIX + "0", getHeadSlot(olo).getURI());
+        Assertions.assertNull(getHeadSlot(olo).getLabel(null));
+
+        olo.add(0, individuals.get(1));
+        Assertions.assertEquals(listIri + OrderedOntologyList.SLOT_SUFFIX + "2", getHeadSlot(olo).getURI());
+        Assertions.assertEquals(List.of(individuals.get(1), individuals.get(0), individuals.get(1)), olo.toList());
+        Assertions.assertEquals(List.of(0L, 1L, 2L), getSlotIndices(olo));
+    }
+
+    @Test
+    @DisplayName("Test that appending lean slots and switching the indexing mode concurrently does not deadlock")
+    void concurrentIndexingModeSwitchTest() {
+        ontologyConnector.setLeanListSlots(true);
+        var individuals = getExampleIndividuals();
+        var olo = ontologyConnector.addList("LeanTestList", individuals);
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            var appender = new Thread(() -> {
+                for (var i = 0; i < 200; i++) {
+                    olo.add(individuals.get(i % 2));
+                }
+            });
+            appender.start();
+            for (var i = 0; i < 50; i++) {
+                ontologyConnector.setListIndexingMode(i % 2 == 0 ? OrderedOntologyList.IndexingMode.SPARSE : OrderedOntologyList.IndexingMode.DENSE);
+                ontologyConnector.setListTailPersistence(i % 2 == 0);
+            }
+            appender.join();
+        });
+        ontologyConnector.setListIndexingMode(OrderedOntologyList.IndexingMode.DENSE);
+        Assertions.assertEquals(202, olo.size());
+        Assertions.assertEquals(LongStream.range(0, 202).boxed().toList(), getSlotIndices(olo));
+    }
+
+    @Test
+    @DisplayName("Test building a list with all its members at once")
+    void buildListTest() {
+        var individuals = getExampleIndividuals();
+        var olo = ontologyConnector.buildList("BuiltTestList").add(individuals.get(0)).addAll(individuals.stream()).build();
+        var expected = List.of(individuals.get(0), individuals.get(0), individuals.get(1));
+        Assertions.assertEquals(expected, olo.toList());
+        Assertions.assertEquals(3, olo.size());
+        Assertions.assertEquals(List.of(0L, 1L, 2L), getSlotIndices(olo));
+
+        var loadedOlo = ontologyConnector.getList("BuiltTestList").orElseThrow();
+        Assertions.assertEquals(expected, loadedOlo.toList());
+        loadedOlo.add(individuals.get(0));
+        Assertions.assertEquals(0, loadedOlo.indexOf(individuals.get(0)));
+        Assertions.assertEquals(3, loadedOlo.lastIndexOf(individuals.get(0)));
+        Assertions.assertEquals(2, loadedOlo.indexOf(individuals.get(1)));
+
+        ontologyConnector.buildList("BuiltTestList").addAll(List.of(individuals.get(1))).build();
+        Assertions.assertEquals(List.of(individuals.get(1)), ontologyConnector.getList("BuiltTestList").orElseThrow().toList());
+    }
+
+    @Test
+    @DisplayName("Test item lookups in a list that was written with the datatype Iri as index")
+    void legacyIndexLookupTest(@TempDir Path tempDir) {
+        var individuals = getExampleIndividuals();
+        var legacyFile = tempDir.resolve("legacy.owl").toString();
+        getTestList().addAll(individuals);
+        writeLegacyIndices(getTestList());
+        Assertions.assertTrue(ontologyConnector.save(legacyFile));
+
+        ontologyConnector = createOntologyConnector(legacyFile);
+        var olo = getTestList();
+        var expected = new ArrayList<>(olo.toList());
+        Individual userdbadapter = ontologyConnector.getIndividual("UserDBAdapter").get();
+        var system = ontologyConnector.getIndividual("defaultSystem").get();
+        Assertions.assertEquals(expected.indexOf(userdbadapter), olo.indexOf(userdbadapter));
+        Assertions.assertEquals(expected.indexOf(system), olo.indexOf(system));
+        Assertions.assertEquals(expected.lastIndexOf(system), olo.lastIndexOf(system));
+
+        Assertions.assertTrue(olo.remove(system));
+        expected.remove(system);
+        Assertions.assertEquals(expected, getTestList().toList());
+        Assertions.assertEquals(expected.indexOf(userdbadapter), getTestList().indexOf(userdbadapter));
+    }
+
+    @Test
+    @DisplayName("Test that sparse indexing and compaction repair indices that were written with the datatype Iri")
+    void legacyIndexCompactionTest(@TempDir Path tempDir) {
+        writeLegacyIndices(getTestList());
+        ontologyConnector.setListIndexingMode(OrderedOntologyList.IndexingMode.SPARSE);
+        var olo = getTestList();
+        var individuals = getExampleIndividuals();
+        olo.add(individuals.get(0));
+        olo.add(1, individuals.get(1));
+        var expected = olo.toList();
+        Assertions.assertEquals(5, expected.size());
+        var indices = getSlotIndices(olo);
+        for (var i = 1; i < indices.size(); i++) {
+            Assertions.assertTrue(indices.get(i - 1) < indices.get(i), "Indices are not ordered: " + indices);
+        }
+
+        writeLegacyIndices(getTestList());
+        Assertions.assertTrue(ontologyConnector.save(tempDir.resolve("compacted.owl").toString()));
+        Assertions.assertEquals(expected, olo.toList());
+        Assertions.assertEquals(LongStream.range(0, expected.size()).boxed().toList(), getSlotIndices(olo));
+    }
+
+    /**
+     * Writes the <code>olo:index</code> of all slots of the given list the way older versions did, i.e., the Iri of
+     * the datatype as plain string.
+     */
+    private void writeLegacyIndices(OrderedOntologyList olo) {
+        var slotProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_SLOT).orElseThrow();
+        var nextProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_NEXT).orElseThrow();
+        var indexProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_INDEX).orElseThrow();
+
+        var slot = ontologyConnector.transformIntoIndividual(ontologyConnector.getPropertyValue(olo.getListIndividual(), slotProperty));
+        while (slot.isPresent()) {
+            ontologyConnector.setPropertyToIndividual(slot.get(), indexProperty, XSD.positiveInteger.getURI());
+            slot = ontologyConnector.transformIntoIndividual(ontologyConnector.getPropertyValue(slot.get(), nextProperty));
+        }
+    }
+
+    private Individual getHeadSlot(OrderedOntologyList olo) {
+        var slotProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_SLOT).orElseThrow();
+        return ontologyConnector.transformIntoIndividual(ontologyConnector.getPropertyValue(olo.getListIndividual(), slotProperty)).orElseThrow();
+    }
+
+    private List<Long> getSlotIndices(OrderedOntologyList olo) {
+        var slotProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_SLOT).orElseThrow();
+        var nextProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_NEXT).orElseThrow();
+        var indexProperty = ontologyConnector.getPropertyByIri(OrderedOntologyList.LIST_BASE_URI + OrderedOntologyList.LIST_PROPERTY_INDEX).orElseThrow();
+
+        List<Long> indices = new ArrayList<>();
+        var slot = ontologyConnector.transformIntoIndividual(ontologyConnector.getPropertyValue(olo.getListIndividual(), slotProperty));
+        while (slot.isPresent()) {
+            indices.add(ontologyConnector.getPropertyValue(slot.get(), indexProperty).asLiteral().getLong());
+            slot = ontologyConnector.transformIntoIndividual(ontologyConnector.getPropertyValue(slot.get(), nextProperty));
+        }
+        return indices;
+    }
+
+    @Test
+    @DisplayName("Test that lists can be used in a new ontology with the bundled list vocabulary")
+    void listInEmptyOntologyTest() {
+        ontologyConnector = OntologyConnector.createWithEmptyOntology("https://informalin.github.io/knowledgebases/examples/empty.owl#");
+        var individual = ontologyConnector.addIndividual("ListElement");
+        var olo = ontologyConnector.addList(TEST_LIST_LABEL, List.of(individual));
+        Assertions.assertTrue(ontologyConnector.hasImport(OrderedOntologyList.LIST_BASE_URI));
+        Assertions.assertEquals(List.of(individual), olo.toList());
+        Assertions.assertEquals(List.of(individual), getTestList().toList());
+        Assertions.assertTrue(ontologyConnector.getProperty("has index").isPresent());
+    }
+
+    @Test
+    @DisplayName("Test that list lookups do not import the list ontology")
+    void listLookupWithoutListImportTest() {
+        ontologyConnector = OntologyConnector.createWithEmptyOntology("https://informalin.github.io/knowledgebases/examples/empty.owl#");
+        var individual = ontologyConnector.addIndividual("ListElement");
+        Assertions.assertTrue(ontologyConnector.getList(TEST_LIST_LABEL).isEmpty());
+        Assertions.assertTrue(ontologyConnector.getListByIri(individual.getURI()).isEmpty());
+        Assertions.assertTrue(ontologyConnector.transformIntoOrderedOntologyList(individual).isEmpty());
+        Assertions.assertFalse(ontologyConnector.hasImport(OrderedOntologyList.LIST_BASE_URI));
+    }
+
     @Test
     @DisplayName("Clear List")
     void clearListTest() {
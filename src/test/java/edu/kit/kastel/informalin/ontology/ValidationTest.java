@@ -0,0 +1,182 @@
+package edu.kit.kastel.informalin.ontology;
+
+import java.time.Duration;
+
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.ontology.DatatypeProperty;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.vocabulary.XSD;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ValidationTest {
+    private static final String NAMESPACE = "https://informalin.github.io/test/validation#";
+
+    private OntologyInterface ontologyConnector;
+    private DatatypeProperty ageProperty;
+
+    @BeforeEach
+    void beforeEach() {
+        ontologyConnector = OntologyConnector.createWithEmptyOntology(NAMESPACE);
+        ageProperty = ontologyConnector.addDataProperty("age");
+        ageProperty.addRange(XSD.xint);
+    }
+
+    @AfterEach
+    void afterEach() {
+        ontologyConnector = null;
+    }
+
+    @Test
+    @DisplayName("Test that a session detects conflicts introduced after the first run")
+    void detectNewConflictTest() {
+        try (var session = ontologyConnector.createValidationSession()) {
+            var person = ontologyConnector.addIndividual("Person");
+            ontologyConnector.addPropertyToIndividual(person, ageProperty, ResourceFactory.createTypedLiteral(42));
+            Assertions.assertTrue(session.validate());
+
+            var otherPerson = ontologyConnector.addIndividual("OtherPerson");
+            ontologyConnector.addPropertyToIndividual(otherPerson, ageProperty, ResourceFactory.createTypedLiteral("old"));
+            Assertions.assertFalse(session.validate());
+            Assertions.assertEquals(1, session.getReports().size());
+            Assertions.assertEquals(ontologyConnector.validateOntology(), session.validate());
+        }
+    }
+
+    @Test
+    @DisplayName("Test that a session notices when conflicts are resolved")
+    void resolveConflictTest() {
+        var person = ontologyConnector.addIndividual("Person");
+        ontologyConnector.addPropertyToIndividual(person, ageProperty, ResourceFactory.createTypedLiteral("old"));
+
+        try (var session = ontologyConnector.createValidationSession()) {
+            Assertions.assertFalse(session.validate());
+
+            ontologyConnector.removeAllOfProperty(person, ageProperty);
+            ontologyConnector.addPropertyToIndividual(person, ageProperty, ResourceFactory.createTypedLiteral("42", XSDDatatype.XSDint));
+            Assertions.assertTrue(session.validate());
+            Assertions.assertTrue(session.getReports().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Test that schema changes are picked up by a session")
+    void schemaChangeTest() {
+        var heightProperty = ontologyConnector.addDataProperty("height");
+        var person = ontologyConnector.addIndividual("Person");
+        ontologyConnector.addPropertyToIndividual(person, heightProperty, ResourceFactory.createTypedLiteral("tall"));
+
+        try (var session = ontologyConnector.createValidationSession()) {
+            Assertions.assertTrue(session.validate());
+
+            heightProperty.addRange(XSD.xint);
+            Assertions.assertFalse(session.validate());
+        }
+    }
+
+    @Test
+    @DisplayName("Test that incremental runs check entailed values")
+    void entailedConflictTest() {
+        var yearsProperty = ontologyConnector.addDataProperty("years");
+        yearsProperty.addSuperProperty(ageProperty);
+
+        try (var session = ontologyConnector.createValidationSession()) {
+            Assertions.assertTrue(session.validate());
+
+            var person = ontologyConnector.addIndividual("Person");
+            ontologyConnector.addPropertyToIndividual(person, yearsProperty, ResourceFactory.createTypedLiteral("old"));
+            Assertions.assertFalse(session.validate());
+            Assertions.assertEquals(ontologyConnector.validateOntology(), session.validate());
+        }
+    }
+
+    @Test
+    @DisplayName("Test that a closed session cannot be used")
+    void closedSessionTest() {
+        var session = ontologyConnector.createValidationSession();
+        session.close();
+        session.close();
+        Assertions.assertThrows(IllegalStateException.class, session::validate);
+    }
+
+    private void addInvalidAges(int numberOfIndividuals) {
+        for (var i = 0; i < numberOfIndividuals; i++) {
+            var person = ontologyConnector.addIndividual("Person" + i);
+            ontologyConnector.addPropertyToIndividual(person, ageProperty, ResourceFactory.createTypedLiteral("old"));
+        }
+    }
+
+    @Test
+    @DisplayName("Test that streamed reports are structured and complete without bounds")
+    void streamAllReportsTest() {
+        addInvalidAges(5);
+        var reports = ontologyConnector.streamValidationReports(ValidationOptions.defaults()).toList();
+        Assertions.assertEquals(5, reports.size());
+        for (var report : reports) {
+            Assertions.assertTrue(report.isError());
+            Assertions.assertEquals("dtRange", report.getType());
+            var statement = report.getStatement().orElseThrow();
+            Assertions.assertEquals(ageProperty, statement.getPredicate());
+            Assertions.assertEquals(statement.getSubject(), report.getResource().orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("Test the bounds of streamed reports")
+    void boundedReportsTest() {
+        addInvalidAges(5);
+        var limited = ontologyConnector.streamValidationReports(ValidationOptions.defaults().withMaxReports(2)).toList();
+        Assertions.assertEquals(2, limited.size());
+
+        var firstError = ontologyConnector.streamValidationReports(ValidationOptions.defaults().withStopAtFirstError(true)).toList();
+        Assertions.assertEquals(1, firstError.size());
+
+        var noTime = ontologyConnector.getValidationReports(ValidationOptions.defaults().withTimeout(Duration.ZERO));
+        Assertions.assertFalse(noTime.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test that bounded reports tell whether reports were left out")
+    void truncatedReportsTest() {
+        addInvalidAges(5);
+        var limited = ontologyConnector.getValidationReports(ValidationOptions.defaults().withMaxReports(2));
+        Assertions.assertEquals(2, countReports(limited));
+        Assertions.assertTrue(limited.isTruncated());
+
+        var exactlyLimited = ontologyConnector.getValidationReports(ValidationOptions.defaults().withMaxReports(5));
+        Assertions.assertEquals(5, countReports(exactlyLimited));
+        Assertions.assertFalse(exactlyLimited.isTruncated());
+
+        var firstError = ontologyConnector.getValidationReports(ValidationOptions.defaults().withStopAtFirstError(true));
+        Assertions.assertEquals(1, countReports(firstError));
+        Assertions.assertTrue(firstError.isTruncated());
+
+        var unbounded = ontologyConnector.getValidationReports(ValidationOptions.defaults());
+        Assertions.assertEquals(5, countReports(unbounded));
+        Assertions.assertFalse(unbounded.isTruncated());
+
+        var noTime = ontologyConnector.getValidationReports(ValidationOptions.defaults().withTimeout(Duration.ZERO));
+        Assertions.assertEquals(0, countReports(noTime));
+        Assertions.assertTrue(noTime.isTruncated());
+    }
+
+    private static int countReports(ValidationReportIterator reports) {
+        var numberOfReports = 0;
+        while (reports.hasNext()) {
+            reports.next();
+            numberOfReports++;
+        }
+        return numberOfReports;
+    }
+
+    @Test
+    @DisplayName("Test that a valid ontology yields no reports")
+    void noReportsTest() {
+        var person = ontologyConnector.addIndividual("Person");
+        ontologyConnector.addPropertyToIndividual(person, ageProperty, ResourceFactory.createTypedLiteral(42));
+        Assertions.assertFalse(ontologyConnector.getValidationReports(ValidationOptions.defaults()).hasNext());
+    }
+}